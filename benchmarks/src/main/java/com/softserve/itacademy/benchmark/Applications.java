@@ -0,0 +1,111 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.ToDoListApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class Applications {
+    static final int USERS = 100;
+    static final long FIRST_ID = 1_000_000L;
+
+    static final String[] WORDS = {"invoice", "report", "deploy", "review", "meeting",
+            "budget", "release", "design", "backup", "audit"};
+
+    private static final int BATCH = 10_000;
+
+    private Applications() {
+    }
+
+    // SpringApplicationBuilder.properties() only sets defaults, which application.properties and the bench profile
+    // win over, so the settings go in as command-line arguments and are checked against the started environment.
+    static ConfigurableApplicationContext start(String... properties) {
+        String[] args = Arrays.stream(properties).map(property -> "--" + property).toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ToDoListApplication.class)
+                .profiles("bench")
+                .logStartupInfo(false)
+                .run(args);
+        for (String property : properties) {
+            int split = property.indexOf('=');
+            String value = context.getEnvironment().getProperty(property.substring(0, split));
+            require(property.substring(split + 1).equals(value), property);
+        }
+        return context;
+    }
+
+    static void require(boolean applied, String setting) {
+        if (!applied) {
+            throw new IllegalStateException("Benchmark setting not applied: " + setting);
+        }
+    }
+
+    // Spreads the rows evenly over USERS owners, ids start at FIRST_ID to stay clear of the seed migration.
+    static void seedToDos(ConfigurableApplicationContext context, int rows) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        seedUsers(jdbc);
+        List<Object[]> todos = new ArrayList<>(BATCH);
+        for (int i = 0; i < rows; i++) {
+            todos.add(todo(i, FIRST_ID + i % USERS));
+            if (todos.size() == BATCH || i == rows - 1) {
+                insertToDos(jdbc, todos);
+                todos.clear();
+            }
+        }
+    }
+
+    // Spreads the rows over the first 'todos' todos seeded by seedToDos; names are two words from WORDS and a number.
+    static void seedTasks(ConfigurableApplicationContext context, int rows, int todos) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<Object[]> tasks = new ArrayList<>(BATCH);
+        for (int i = 0; i < rows; i++) {
+            String name = WORDS[i % WORDS.length] + " " + WORDS[i / WORDS.length % WORDS.length] + " #" + i;
+            tasks.add(new Object[]{FIRST_ID + i, name, "MEDIUM", FIRST_ID + i % todos, 5L});
+            if (tasks.size() == BATCH || i == rows - 1) {
+                jdbc.batchUpdate("insert into tasks (id, name, priority, todo_id, state_id) " +
+                        "values (?, ?, ?, ?, ?)", tasks);
+                tasks.clear();
+            }
+        }
+    }
+
+    // User FIRST_ID owns the first 'owned' todos and collaborates on the next 'shared' ones,
+    // which belong to user FIRST_ID + 1.
+    static void seedMemberships(ConfigurableApplicationContext context, int owned, int shared) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        seedUsers(jdbc);
+        List<Object[]> todos = new ArrayList<>(owned + shared);
+        List<Object[]> collaborators = new ArrayList<>(shared);
+        for (int i = 0; i < owned + shared; i++) {
+            todos.add(todo(i, i < owned ? FIRST_ID : FIRST_ID + 1));
+            if (i >= owned) {
+                collaborators.add(new Object[]{FIRST_ID + i, FIRST_ID});
+            }
+        }
+        insertToDos(jdbc, todos);
+        jdbc.batchUpdate("insert into todo_collaborator (todo_id, collaborator_id) values (?, ?)", collaborators);
+    }
+
+    private static void seedUsers(JdbcTemplate jdbc) {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{FIRST_ID + i, "Bench", "User", "bench" + i + "@mail.com", "password", 2L});
+        }
+        jdbc.batchUpdate("insert into users (id, first_name, last_name, email, password, role_id) " +
+                "values (?, ?, ?, ?, ?, ?)", users);
+    }
+
+    private static Object[] todo(int i, long ownerId) {
+        LocalDateTime createdAt = LocalDateTime.of(2020, 1, 1, 0, 0).plusSeconds(i);
+        return new Object[]{FIRST_ID + i, "Bench To-Do #" + i, Timestamp.valueOf(createdAt), ownerId};
+    }
+
+    private static void insertToDos(JdbcTemplate jdbc, List<Object[]> todos) {
+        jdbc.batchUpdate("insert into todos (id, title, created_at, owner_id) values (?, ?, ?, ?)", todos);
+    }
+}
@@ -0,0 +1,75 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.dto.BatchResult;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.service.StateService;
+import com.softserve.itacademy.service.TaskService;
+import com.softserve.itacademy.service.ToDoService;
+import com.softserve.itacademy.service.TodoStatsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Moving all 1k tasks of a todo to the next state: one read-and-update per task, as TaskController.update does,
+// against a single batch update.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BatchTaskBenchmark {
+    private static final int TASKS = 1_000;
+    private static final String[] STATES = {"New", "Doing", "Verify", "Done"};
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private ToDoService todoService;
+    private StateService stateService;
+    private List<Long> ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = Applications.start();
+        Applications.seedToDos(context, 1);
+        Applications.seedTasks(context, TASKS, 1);
+        context.getBean(TodoStatsService.class).reconcile();
+        taskService = context.getBean(TaskService.class);
+        todoService = context.getBean(ToDoService.class);
+        stateService = context.getBean(StateService.class);
+        ids = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            ids.add(Applications.FIRST_ID + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int perTask() {
+        String state = nextState();
+        for (Long id : ids) {
+            Task task = taskService.readById(id);
+            task.setTodo(todoService.readById(Applications.FIRST_ID));
+            task.setState(stateService.getByName(state));
+            taskService.update(task);
+        }
+        return ids.size();
+    }
+
+    @Benchmark
+    public List<BatchResult> batch() {
+        return taskService.updateState(Applications.FIRST_ID, ids, stateService.getByName(nextState()));
+    }
+
+    private String nextState() {
+        return STATES[next++ % STATES.length];
+    }
+}
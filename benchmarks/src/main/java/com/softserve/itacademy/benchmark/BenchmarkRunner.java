@@ -0,0 +1,25 @@
+package com.softserve.itacademy.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+
+    // Same command line as org.openjdk.jmh.Main, but results default to JSON so runs on
+    // different commits can be diffed: java -jar target/benchmarks.jar -rff before.json
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = new CommandLineOptions(args);
+        if (options.shouldHelp() || options.shouldList() || options.getResultFormat().hasValue()) {
+            Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .parent(options)
+                .resultFormat(ResultFormatType.JSON)
+                .result(options.getResult().orElse("jmh-result.json"))
+                .build()).run();
+    }
+}
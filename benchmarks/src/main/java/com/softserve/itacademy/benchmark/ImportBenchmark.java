@@ -0,0 +1,71 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.service.StateService;
+import com.softserve.itacademy.service.TaskService;
+import com.softserve.itacademy.service.ToDoService;
+import com.softserve.itacademy.service.TodoStatsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Bulk import of 10k tasks into one todo through TaskService.createAll, as the import endpoint runs it. The score
+// is in rows per second; the target is 10k+. Imported rows are deleted after every iteration.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ImportBenchmark.ROWS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ImportBenchmark {
+    static final int ROWS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private JdbcTemplate jdbcTemplate;
+    private ToDo todo;
+    private com.softserve.itacademy.model.State state;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = Applications.start();
+        Applications.seedToDos(context, 1);
+        context.getBean(TodoStatsService.class).reconcile();
+        taskService = context.getBean(TaskService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        todo = context.getBean(ToDoService.class).readById(Applications.FIRST_ID);
+        state = context.getBean(StateService.class).getByName("New");
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteImported() {
+        jdbcTemplate.update("delete from tasks where todo_id = ?", Applications.FIRST_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Task> createAll() {
+        List<Task> tasks = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Task task = new Task();
+            task.setName(Applications.WORDS[i % Applications.WORDS.length] + " #" + next++);
+            task.setPriority(Priority.MEDIUM);
+            task.setTodo(todo);
+            task.setState(state);
+            tasks.add(task);
+        }
+        return taskService.createAll(tasks);
+    }
+}
@@ -0,0 +1,96 @@
+package com.softserve.itacademy.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+// Stands in for a slow database: jdbc:latency:<millis>:<url> opens <url> and sleeps <millis> before every
+// statement execution, the way a remote server's round trip would keep the calling thread waiting.
+public class LatencyDriver implements Driver {
+    private static final String PREFIX = "jdbc:latency:";
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        String rest = url.substring(PREFIX.length());
+        int separator = rest.indexOf(':');
+        long millis = Long.parseLong(rest.substring(0, separator));
+        Connection connection = DriverManager.getConnection("jdbc:" + rest.substring(separator + 1), info);
+        return proxy(Connection.class, connection, millis);
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, long millis) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                Thread.sleep(millis);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return wrap(method, result, millis);
+        };
+        return (T) Proxy.newProxyInstance(LatencyDriver.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object wrap(Method method, Object result, long millis) {
+        Class<?> type = method.getReturnType();
+        if (result instanceof CallableStatement && type == CallableStatement.class) {
+            return proxy(CallableStatement.class, (CallableStatement) result, millis);
+        }
+        if (result instanceof PreparedStatement && type == PreparedStatement.class) {
+            return proxy(PreparedStatement.class, (PreparedStatement) result, millis);
+        }
+        if (result instanceof Statement && type == Statement.class) {
+            return proxy(Statement.class, (Statement) result, millis);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package com.softserve.itacademy.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.softserve.itacademy.logging.AccessLogFilter;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Requests per second for the todo tasks page from 8 threads, with the access log and SQL log
+// written synchronously to the console or through the async appenders. The second-level cache is off
+// so every request logs its statements; the SQL rate limit is lifted so both modes log the same events.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(8)
+@Fork(1)
+public class LoggingThroughputBenchmark {
+    @Param({"CONSOLE", "ASYNC"})
+    public String appender;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = Applications.start(
+                "todolist.logging.appender=" + appender,
+                "todolist.logging.sql.max-per-second=0",
+                "logging.level.root=INFO",
+                "logging.level.org.hibernate.SQL=DEBUG",
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        Logger root = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+        Applications.require(root.getAppender(appender) != null
+                && LoggerFactory.getLogger("org.hibernate.SQL").isDebugEnabled(), "appender=" + appender);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .addFilters(context.getBean(AccessLogFilter.class))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int readToDoTasks() throws Exception {
+        return mockMvc.perform(get("/todos/7/tasks")).andReturn().getResponse().getStatus();
+    }
+}
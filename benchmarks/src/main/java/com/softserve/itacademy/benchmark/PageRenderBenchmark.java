@@ -0,0 +1,66 @@
+package com.softserve.itacademy.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Full controller -> service -> Thymeleaf render through MockMvc, with and without the
+// second-level cache, on the rows of the seed migration.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageRenderBenchmark {
+    @Param({"true", "false"})
+    public boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = Applications.start(
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                "spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache);
+        SessionFactoryOptions options = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactoryImplementor.class).getSessionFactoryOptions();
+        Applications.require(options.isSecondLevelCacheEnabled() == secondLevelCache
+                && options.isQueryCacheEnabled() == secondLevelCache, "secondLevelCache=" + secondLevelCache);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String readToDoTasks() throws Exception {
+        return render("/todos/7/tasks");
+    }
+
+    @Benchmark
+    public String getAllToDosOfUser() throws Exception {
+        return render("/todos/all/users/4");
+    }
+
+    @Benchmark
+    public String getAllUsers() throws Exception {
+        return render("/users/all");
+    }
+
+    private String render(String url) throws Exception {
+        return mockMvc.perform(get(url)).andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.softserve.itacademy.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// 32 concurrent requests for the todo tasks page against pools smaller and larger than the load,
+// with the second-level cache off so every request needs a connection. Sample mode reports the
+// latency percentiles, whose tail grows with the time spent waiting for a connection.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(32)
+@Fork(1)
+public class PoolSaturationBenchmark {
+    @Param({"2", "8", "32"})
+    public int poolSize;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = Applications.start(
+                "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "spring.datasource.hikari.minimum-idle=" + poolSize,
+                "spring.datasource.hikari.connection-timeout=30000",
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+        Applications.require(dataSource.getMaximumPoolSize() == poolSize, "poolSize=" + poolSize);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int readToDoTasks() throws Exception {
+        return mockMvc.perform(get("/todos/7/tasks")).andReturn().getResponse().getStatus();
+    }
+}
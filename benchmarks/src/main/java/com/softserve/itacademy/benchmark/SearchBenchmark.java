@@ -0,0 +1,47 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.dto.SearchHit;
+import com.softserve.itacademy.service.SearchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Full-text search for one user over 1M tasks in 10k todos, the user owning 100 of them:
+// a broad one-word prefix and a narrow two-word query.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SearchBenchmark {
+    private static final int TODOS = 10_000;
+    private static final int TASKS = 1_000_000;
+
+    @Param({"rev", "audit backup"})
+    public String query;
+
+    private ConfigurableApplicationContext context;
+    private SearchService searchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = Applications.start();
+        Applications.seedToDos(context, TODOS);
+        Applications.seedTasks(context, TASKS, TODOS);
+        searchService = context.getBean(SearchService.class);
+        searchService.reindex();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<SearchHit> search() {
+        return searchService.search(Applications.FIRST_ID, query, 20);
+    }
+}
@@ -0,0 +1,48 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.dto.TaskDto;
+import com.softserve.itacademy.dto.TaskTransformer;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskTransformerBenchmark {
+    private Task task;
+    private TaskDto taskDto;
+    private ToDo todo;
+    private com.softserve.itacademy.model.State state;
+
+    @Setup
+    public void setUp() {
+        todo = new ToDo();
+        todo.setId(7L);
+        state = new com.softserve.itacademy.model.State();
+        state.setName("New");
+        task = new Task();
+        task.setId(5L);
+        task.setName("Task #1");
+        task.setPriority(Priority.HIGH);
+        task.setTodo(todo);
+        task.setState(state);
+        taskDto = TaskTransformer.convertToDto(task);
+    }
+
+    @Benchmark
+    public TaskDto convertToDto() {
+        return TaskTransformer.convertToDto(task);
+    }
+
+    @Benchmark
+    public Task convertToEntity() {
+        return TaskTransformer.convertToEntity(taskDto, todo, state);
+    }
+}
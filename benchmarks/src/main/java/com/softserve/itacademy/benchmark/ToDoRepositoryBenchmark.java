@@ -0,0 +1,45 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.repository.ToDoRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ToDoRepositoryBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private ToDoRepository todoRepository;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Measure the query itself, not the query cache answering it.
+        context = Applications.start(
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        Applications.seedToDos(context, rows);
+        todoRepository = context.getBean(ToDoRepository.class);
+        userId = Applications.FIRST_ID + Applications.USERS / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ToDo> getByUserId() {
+        return todoRepository.getByUserId(userId);
+    }
+}
@@ -0,0 +1,59 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.dto.TodoSummary;
+import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.repository.ToDoRepository;
+import com.softserve.itacademy.service.ToDoService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The todos-of-user listing for a user who owns 5k todos and collaborates on 5k more:
+// full entities with owners against the UNION ALL summary projection.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TodoSummaryBenchmark {
+    private static final int OWNED = 5_000;
+    private static final int SHARED = 5_000;
+
+    private ConfigurableApplicationContext context;
+    private ToDoRepository todoRepository;
+    private ToDoService todoService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = Applications.start(
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        Applications.seedMemberships(context, OWNED, SHARED);
+        todoRepository = context.getBean(ToDoRepository.class);
+        todoService = context.getBean(ToDoService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ToDo> entities() {
+        return todoRepository.getByUserId(Applications.FIRST_ID);
+    }
+
+    @Benchmark
+    public List<TodoSummary> summaries() {
+        return todoRepository.getSummariesByUserId(Applications.FIRST_ID, OWNED + SHARED);
+    }
+
+    @Benchmark
+    public KeysetPage<TodoSummary> firstPage() {
+        return todoService.getPageByUserId(Applications.FIRST_ID, null, null, 20);
+    }
+}
@@ -0,0 +1,90 @@
+package com.softserve.itacademy.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+// 256 clients request the todo tasks page over HTTP from an embedded Tomcat whose database answers every
+// statement 20 ms late (LatencyDriver). Tomcat's thread pool and the connection pool keep their shipped sizes, so
+// this compares the application as deployed: at most 200 requests at once on platform threads, no thread limit on
+// virtual ones, and the pool's connections shared either way. Only the connection timeout is raised so waiting
+// requests queue instead of failing. The second-level cache is off so every request goes to the database.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+    private static final int TOMCAT_THREADS = 200;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"20"})
+    public int latencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = Applications.start(
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.datasource.url=jdbc:latency:" + latencyMillis + ":h2:mem:bench_db",
+                "spring.datasource.driver-class-name=" + LatencyDriver.class.getName(),
+                "spring.datasource.hikari.connection-timeout=30000",
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        checkSettings();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/todos/7/tasks")).build();
+    }
+
+    // The started server and pool, not just the environment, have to match the parameters.
+    private void checkSettings() {
+        Executor executor = ((TomcatWebServer) ((ServletWebServerApplicationContext) context).getWebServer())
+                .getTomcat().getConnector().getProtocolHandler().getExecutor();
+        Applications.require(virtualThreads ? executor instanceof VirtualThreadExecutor
+                : executor instanceof ThreadPoolExecutor
+                && ((ThreadPoolExecutor) executor).getMaximumPoolSize() == TOMCAT_THREADS,
+                "virtualThreads=" + virtualThreads + " on " + executor);
+
+        HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+        int poolSize = context.getEnvironment().getProperty("spring.datasource.hikari.maximum-pool-size",
+                Integer.class);
+        Applications.require(dataSource.getMaximumPoolSize() == poolSize, "maximum-pool-size=" + poolSize);
+        Applications.require(LatencyDriver.class.getName().equals(dataSource.getDriverClassName()),
+                "driver " + dataSource.getDriverClassName());
+
+        long start = System.nanoTime();
+        context.getBean(JdbcTemplate.class).queryForObject("select 1", Integer.class);
+        Applications.require(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(latencyMillis),
+                "latencyMillis=" + latencyMillis);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int readToDoTasks() throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,132 @@
+package com.softserve.itacademy.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class ReferenceCache<T> {
+    private final String name;
+    private final Supplier<List<T>> loader;
+    private final Function<T, Long> idOf;
+    private final Function<T, String> nameOf;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // Every invalidate() installs a new generation, so a reload that started before it cannot publish its rows.
+    private final AtomicReference<Generation<T>> current = new AtomicReference<>(new Generation<>(0, null));
+
+    public ReferenceCache(String name, Supplier<List<T>> loader, Function<T, Long> idOf, Function<T, String> nameOf) {
+        this.name = name;
+        this.loader = loader;
+        this.idOf = idOf;
+        this.nameOf = nameOf;
+    }
+
+    public List<T> getAll() {
+        Snapshot<T> snapshot = current.get().snapshot;
+        if (snapshot != null) {
+            hits.incrementAndGet();
+            return snapshot.all;
+        }
+        misses.incrementAndGet();
+        return reload().all;
+    }
+
+    public Optional<T> getById(long id) {
+        return lookup(current -> current.byId.get(id));
+    }
+
+    public Optional<T> getByName(String name) {
+        return lookup(current -> current.byName.get(name));
+    }
+
+    // The caller always gets the rows it loaded; they are kept only if no invalidate() ran meanwhile.
+    public Snapshot<T> reload() {
+        Generation<T> started = current.get();
+        Snapshot<T> loaded = new Snapshot<>(loader.get(), idOf, nameOf);
+        current.compareAndSet(started, new Generation<>(started.number, loaded));
+        return loaded;
+    }
+
+    public void invalidate() {
+        current.updateAndGet(generation -> new Generation<>(generation.number + 1, null));
+    }
+
+    // Inside a transaction the snapshot is dropped once it commits; dropped any earlier, a concurrent lookup
+    // could reload the old rows and keep them.
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // A snapshot holds the whole table and is dropped on every write, so a key it lacks does not exist and
+    // is answered from the snapshot as well.
+    private Optional<T> lookup(Function<Snapshot<T>, T> finder) {
+        Snapshot<T> snapshot = current.get().snapshot;
+        if (snapshot != null) {
+            hits.incrementAndGet();
+            return Optional.ofNullable(finder.apply(snapshot));
+        }
+        misses.incrementAndGet();
+        return Optional.ofNullable(finder.apply(reload()));
+    }
+
+    private static final class Generation<T> {
+        private final long number;
+        private final Snapshot<T> snapshot;
+
+        private Generation(long number, Snapshot<T> snapshot) {
+            this.number = number;
+            this.snapshot = snapshot;
+        }
+    }
+
+    public static final class Snapshot<T> {
+        private final List<T> all;
+        private final Map<Long, T> byId;
+        private final Map<String, T> byName;
+
+        private Snapshot(List<T> values, Function<T, Long> idOf, Function<T, String> nameOf) {
+            Map<Long, T> ids = new HashMap<>();
+            Map<String, T> names = new HashMap<>();
+            for (T value : values) {
+                ids.put(idOf.apply(value), value);
+                names.put(nameOf.apply(value), value);
+            }
+            this.all = Collections.unmodifiableList(new ArrayList<>(values));
+            this.byId = Collections.unmodifiableMap(ids);
+            this.byName = Collections.unmodifiableMap(names);
+        }
+    }
+}
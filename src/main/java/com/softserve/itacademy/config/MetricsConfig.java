@@ -0,0 +1,44 @@
+package com.softserve.itacademy.config;
+
+import com.softserve.itacademy.metrics.ServiceTimingAspect;
+import com.softserve.itacademy.metrics.SqlStatementCounter;
+import com.softserve.itacademy.metrics.SqlStatementMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+    private final SqlStatementCounter sqlStatementCounter = new SqlStatementCounter();
+    private final MeterRegistry registry;
+
+    public MetricsConfig(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    // Also picked up by Spring Boot's task executor, so @Async work is counted against the request that started it.
+    @Bean
+    public TaskDecorator sqlStatementCountDecorator() {
+        return sqlStatementCounter;
+    }
+
+    @Bean
+    public ServiceTimingAspect serviceTimingAspect() {
+        return new ServiceTimingAspect(registry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        interceptors.addInterceptor(new SqlStatementMetricsInterceptor(sqlStatementCounter, registry));
+    }
+}
@@ -0,0 +1,31 @@
+package com.softserve.itacademy.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Route { PRIMARY, REPLICA }
+
+    private final Map<Route, LongAdder> lookups = new EnumMap<>(Route.class);
+
+    public ReadOnlyRoutingDataSource() {
+        for (Route route : Route.values()) {
+            lookups.put(route, new LongAdder());
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+        lookups.get(route).increment();
+        return route;
+    }
+
+    public long getLookups(Route route) {
+        return lookups.get(route).sum();
+    }
+}
@@ -0,0 +1,61 @@
+package com.softserve.itacademy.config;
+
+import com.softserve.itacademy.config.ReadOnlyRoutingDataSource.Route;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+// Active only when todolist.datasource.replica.jdbc-url is set; otherwise Spring Boot's single pool is used.
+@Configuration
+@ConditionalOnProperty(prefix = "todolist.datasource.replica", name = "jdbc-url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("todolist.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class).build();
+        replica.setPoolName("todolist-replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReadOnlyRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      HikariDataSource replicaDataSource) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Route.PRIMARY, primaryDataSource);
+        targets.put(Route.REPLICA, replicaDataSource);
+        ReadOnlyRoutingDataSource routing = new ReadOnlyRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        return routing;
+    }
+
+    // The transaction manager grabs a connection before the read-only flag is bound to the thread,
+    // so the routing decision has to wait until the first statement. The pools are resolved lazily because
+    // Spring Boot's DataSource initializer looks up this bean as soon as the first pool is created.
+    @Bean
+    @Primary
+    public DataSource dataSource(@Lazy ReadOnlyRoutingDataSource routingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(routingDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,52 @@
+package com.softserve.itacademy.config;
+
+import com.softserve.itacademy.cache.ReferenceCache;
+import com.softserve.itacademy.model.Role;
+import com.softserve.itacademy.model.State;
+import com.softserve.itacademy.repository.RoleRepository;
+import com.softserve.itacademy.repository.StateRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+@Configuration
+public class ReferenceCacheConfig {
+    private final MeterRegistry registry;
+
+    public ReferenceCacheConfig(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Bean
+    public ReferenceCache<State> stateCache(StateRepository stateRepository) {
+        return bind(new ReferenceCache<>("states", stateRepository::getAll, State::getId, State::getName));
+    }
+
+    @Bean
+    public ReferenceCache<Role> roleCache(RoleRepository roleRepository) {
+        return bind(new ReferenceCache<>("roles", roleRepository::findAll, Role::getId, Role::getName));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload(ApplicationReadyEvent event) {
+        for (ReferenceCache<?> cache : event.getApplicationContext().getBeansOfType(ReferenceCache.class).values()) {
+            cache.reload();
+        }
+    }
+
+    // Same shape as Micrometer's own cache metrics: one counter per cache, split into hits and misses.
+    private <T> ReferenceCache<T> bind(ReferenceCache<T> cache) {
+        FunctionCounter.builder("todolist.reference.cache.gets", cache, ReferenceCache::getHits)
+                .tag("cache", cache.getName())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("todolist.reference.cache.gets", cache, ReferenceCache::getMisses)
+                .tag("cache", cache.getName())
+                .tag("result", "miss")
+                .register(registry);
+        return cache;
+    }
+}
@@ -0,0 +1,21 @@
+package com.softserve.itacademy.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.WebContentInterceptor;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // The list pages answer conditional GETs with 304; no-cache makes browsers revalidate them
+    // on every visit instead of showing a heuristically cached copy.
+    @Override
+    public void addInterceptors(InterceptorRegistry interceptors) {
+        WebContentInterceptor revalidate = new WebContentInterceptor();
+        revalidate.addCacheMapping(CacheControl.noCache(),
+                "/", "/home", "/users/all", "/todos/all/users/*", "/todos/*/tasks");
+        interceptors.addInterceptor(revalidate);
+    }
+}
@@ -1,27 +1,47 @@
 package com.softserve.itacademy.controller;
 
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.dto.VersionStamp;
+import com.softserve.itacademy.model.User;
+import com.softserve.itacademy.service.DashboardService;
 import com.softserve.itacademy.service.UserService;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 
 @Controller
 public class HomeController {
-    Logger logger = LoggerFactory.getLogger(HomeController.class);
+    private static final int PAGE_SIZE = 20;
+
     private final UserService userService;
+    private final DashboardService dashboardService;
 
-    public HomeController(UserService userService) {
+    public HomeController(UserService userService, DashboardService dashboardService) {
         this.userService = userService;
+        this.dashboardService = dashboardService;
     }
 
     @GetMapping({"/", "home"})
-    public String home(Model model) {
-        logger.info("GetMapping '/home' in HomeController was used.");
-        model.addAttribute("users", userService.getAll());
-        logger.info("Page for all user was opened.");
+    public String home(Model model,
+                       @RequestParam(value = "after", required = false) Long after,
+                       @RequestParam(value = "before", required = false) Long before,
+                       WebRequest request) {
+        VersionStamp stamp = userService.getAllStamp();
+        if (request.checkNotModified(stamp.getEtag(), stamp.getLastModified())) {
+            return null;
+        }
+        KeysetPage<User> users = userService.getPage(after, before, PAGE_SIZE);
+        model.addAttribute("users", users.getContent());
+        model.addAttribute("usersPage", users);
         return "home";
     }
+
+    @GetMapping("/dashboard")
+    public String dashboard(Model model) {
+        model.addAttribute("dashboard", dashboardService.getDashboard());
+        return "dashboard";
+    }
 }
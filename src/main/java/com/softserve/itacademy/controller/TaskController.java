@@ -2,8 +2,11 @@ package com.softserve.itacademy.controller;
 
 import com.softserve.itacademy.dto.TaskDto;
 import com.softserve.itacademy.dto.TaskTransformer;
+import com.softserve.itacademy.importer.ImportReader;
 import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.State;
 import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
 import com.softserve.itacademy.service.StateService;
 import com.softserve.itacademy.service.TaskService;
 import com.softserve.itacademy.service.ToDoService;
@@ -14,6 +17,12 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Controller
 @RequestMapping("/tasks")
@@ -31,18 +40,15 @@ public class TaskController {
 
     @GetMapping("/create/todos/{todo_id}")
     public String create(@PathVariable("todo_id") long todoId, Model model) {
-        logger.info("GetMapping '/tasks/create/todos/" + todoId + "' in TaskController was used.");
         model.addAttribute("task", new TaskDto());
         model.addAttribute("todo", todoService.readById(todoId));
         model.addAttribute("priorities", Priority.values());
-        logger.info("Page for creation new Task with TodoId=" + todoId + " was opened");
         return "create-task";
     }
 
     @PostMapping("/create/todos/{todo_id}")
     public String create(@PathVariable("todo_id") long todoId, Model model,
                          @Validated @ModelAttribute("task") TaskDto taskDto, BindingResult result) {
-        logger.info("PostMapping '/tasks/create/todos/" + todoId + "' in TaskController was used.");
         if (result.hasErrors()) {
             model.addAttribute("todo", todoService.readById(todoId));
             model.addAttribute("priorities", Priority.values());
@@ -55,46 +61,64 @@ public class TaskController {
                 stateService.getByName("New")
         );
         taskService.create(task);
-        logger.info("Task was created successfully");
+        return "redirect:/todos/" + todoId + "/tasks";
+    }
+
+    @PostMapping("/import/todos/{todo_id}")
+    public String importTasks(@PathVariable("todo_id") long todoId,
+                              @RequestParam("file") MultipartFile file) throws IOException {
+        ToDo todo = todoService.readById(todoId);
+        State state = stateService.getByName("New");
+        List<Map<String, String>> rows = ImportReader.read(file.getOriginalFilename(), file.getInputStream());
+        List<Task> tasks = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            TaskDto taskDto = new TaskDto();
+            taskDto.setName(ImportReader.required(rows.get(i), "name", i + 1));
+            taskDto.setPriority(ImportReader.required(rows.get(i), "priority", i + 1, Priority.class).name());
+            tasks.add(TaskTransformer.convertToEntity(taskDto, todo, state));
+        }
+        taskService.createAll(tasks);
+        logger.info("{} Tasks were imported into TodoId={}", tasks.size(), todoId);
         return "redirect:/todos/" + todoId + "/tasks";
     }
 
     @GetMapping("/{task_id}/update/todos/{todo_id}")
     public String update(@PathVariable("task_id") long taskId, @PathVariable("todo_id") long todoId, Model model) {
-        logger.info("GetMapping '/tasks/" + taskId + "/update/todos/" + todoId + "' in TaskController was used.");
         TaskDto taskDto = TaskTransformer.convertToDto(taskService.readById(taskId));
         model.addAttribute("task", taskDto);
         model.addAttribute("priorities", Priority.values());
         model.addAttribute("states", stateService.getAll());
-        logger.info("Page for updating Task with taskId=" + taskId + " and TodoId=" + todoId + " was opened");
         return "update-task";
     }
 
     @PostMapping("/{task_id}/update/todos/{todo_id}")
     public String update(@PathVariable("task_id") long taskId, @PathVariable("todo_id") long todoId, Model model,
-                         @Validated @ModelAttribute("task") TaskDto taskDto, BindingResult result) {
-        logger.info("PostMapping '/tasks/" + taskId + "/update/todos/" + todoId + "' in TaskController was used.");
+                         @Validated @ModelAttribute("task") TaskDto taskDto, BindingResult result,
+                         @RequestParam(value = "originalName", required = false) String originalName,
+                         @RequestParam(value = "originalPriority", required = false) String originalPriority,
+                         @RequestParam(value = "originalStateId", required = false) Long originalStateId) {
         if (result.hasErrors()) {
             model.addAttribute("priorities", Priority.values());
             model.addAttribute("states", stateService.getAll());
-            logger.warn("invalid input for updating Task with taskId=" + taskId + ".");
+            logger.warn("invalid input for updating Task with taskId={}", taskId);
             return "update-task";
         }
-        Task task = TaskTransformer.convertToEntity(
-                taskDto,
-                todoService.readById(taskDto.getTodoId()),
-                stateService.readById(taskDto.getStateId())
-        );
-        taskService.update(task);
-        logger.info("Task with taskId=" + taskId + " was updated successfully.");
+        ToDo todo = todoService.readById(taskDto.getTodoId());
+        Task task = TaskTransformer.convertToEntity(taskDto, todo, stateService.readById(taskDto.getStateId()));
+        if (originalName == null || originalPriority == null || originalStateId == null) {
+            taskService.update(task);
+        } else {
+            TaskDto originalDto = new TaskDto(taskDto.getId(), originalName, originalPriority,
+                    taskDto.getTodoId(), originalStateId, taskDto.getVersion());
+            taskService.update(
+                    TaskTransformer.convertToEntity(originalDto, todo, stateService.readById(originalStateId)), task);
+        }
         return "redirect:/todos/" + todoId + "/tasks";
     }
 
     @GetMapping("/{task_id}/delete/todos/{todo_id}")
     public String delete(@PathVariable("task_id") long taskId, @PathVariable("todo_id") long todoId) {
-        logger.info("GetMapping '/tasks/" + taskId + "/delete/todos/" + todoId + "' in TaskController was used.");
         taskService.delete(taskId);
-        logger.info("Task with taskId=" + taskId + " was successfully deleted");
         return "redirect:/todos/" + todoId + "/tasks";
     }
 }
@@ -1,10 +1,17 @@
 package com.softserve.itacademy.controller;
 
-import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.dto.SearchHit;
+import com.softserve.itacademy.dto.ToDoTasksView;
+import com.softserve.itacademy.dto.TodoStats;
+import com.softserve.itacademy.dto.TodoSummary;
+import com.softserve.itacademy.dto.VersionStamp;
+import com.softserve.itacademy.importer.ImportReader;
 import com.softserve.itacademy.model.ToDo;
 import com.softserve.itacademy.model.User;
-import com.softserve.itacademy.service.TaskService;
+import com.softserve.itacademy.service.SearchService;
 import com.softserve.itacademy.service.ToDoService;
+import com.softserve.itacademy.service.TodoStatsService;
 import com.softserve.itacademy.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -14,26 +21,33 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Controller
 @RequestMapping("/todos")
 @RequiredArgsConstructor
 public class ToDoController {
+    private static final int PAGE_SIZE = 20;
+    private static final int SEARCH_LIMIT = 50;
+
     private final Logger logger = LoggerFactory.getLogger(ToDoController.class);
 
     private final ToDoService todoService;
-    private final TaskService taskService;
     private final UserService userService;
+    private final SearchService searchService;
+    private final TodoStatsService todoStatsService;
 
     @GetMapping("/create/users/{owner_id}")
     public String create(@PathVariable("owner_id") long ownerId, Model model) {
         model.addAttribute("todo", new ToDo());
         model.addAttribute("ownerId", ownerId);
-        logger.info("Page for creation new ToDo List of user with id " + ownerId + " was opened");
         return "create-todo";
     }
 
@@ -48,20 +62,43 @@ public class ToDoController {
         todo.setCreatedAt(LocalDateTime.now());
         todo.setOwner(userService.readById(ownerId));
         todoService.create(todo);
-        logger.info("ToDo List was created successfully");
+        return "redirect:/todos/all/users/" + ownerId;
+    }
+
+    @PostMapping("/import/users/{owner_id}")
+    public String importToDos(@PathVariable("owner_id") long ownerId,
+                              @RequestParam("file") MultipartFile file) throws IOException {
+        User owner = userService.readById(ownerId);
+        LocalDateTime now = LocalDateTime.now();
+        List<Map<String, String>> rows = ImportReader.read(file.getOriginalFilename(), file.getInputStream());
+        List<ToDo> todos = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ToDo todo = new ToDo();
+            todo.setTitle(ImportReader.required(rows.get(i), "title", i + 1));
+            todo.setCreatedAt(now);
+            todo.setOwner(owner);
+            todos.add(todo);
+        }
+        todoService.createAll(todos);
+        logger.info("{} ToDo Lists were imported for user with id {}", todos.size(), ownerId);
         return "redirect:/todos/all/users/" + ownerId;
     }
 
     @GetMapping("/{id}/tasks")
-    public String read(@PathVariable long id, Model model) {
-        ToDo todo = todoService.readById(id);
-        List<Task> tasks = taskService.getByTodoId(id);
-        List<User> users = userService.getAll().stream()
-                .filter(user -> user.getId() != todo.getOwner().getId()).collect(Collectors.toList());
-        model.addAttribute("todo", todo);
-        model.addAttribute("tasks", tasks);
-        model.addAttribute("users", users);
-        logger.info("Page with all tasks of ToDo List with id " + id + " was opened");
+    public String read(@PathVariable long id, Model model,
+                       @RequestParam(value = "after", required = false) Long after,
+                       @RequestParam(value = "before", required = false) Long before,
+                       WebRequest request) {
+        VersionStamp stamp = todoService.getTasksViewStamp(id);
+        if (request.checkNotModified(stamp.getEtag(), stamp.getLastModified())) {
+            return null;
+        }
+        ToDoTasksView view = todoService.readTasksView(id, after, before, PAGE_SIZE);
+        model.addAttribute("todo", view.getTodo());
+        model.addAttribute("tasks", view.getTasks().getContent());
+        model.addAttribute("tasksPage", view.getTasks());
+        model.addAttribute("users", view.getUsers());
+        model.addAttribute("stats", view.getStats());
         return "todo-tasks";
     }
 
@@ -69,7 +106,6 @@ public class ToDoController {
     public String update(@PathVariable("todo_id") long todoId, @PathVariable("owner_id") long ownerId, Model model) {
         ToDo todo = todoService.readById(todoId);
         model.addAttribute("todo", todo);
-        logger.info("Page for updating ToDo List with id " + todoId + " was opened");
         return "update-todo";
     }
 
@@ -81,49 +117,57 @@ public class ToDoController {
             logger.warn("Incorrectly entered data for updating ToDo List");
             return "update-todo";
         }
-        ToDo oldTodo = todoService.readById(todoId);
-        todo.setOwner(oldTodo.getOwner());
-        todo.setCollaborators(oldTodo.getCollaborators());
         todoService.update(todo);
-        logger.info("ToDo List with id " + todoId + " was successfully updated");
         return "redirect:/todos/all/users/" + ownerId;
     }
 
     @GetMapping("/{todo_id}/delete/users/{owner_id}")
     public String delete(@PathVariable("todo_id") long todoId, @PathVariable("owner_id") long ownerId) {
         todoService.delete(todoId);
-        logger.info("ToDo List with id " + todoId + " was successfully removed");
         return "redirect:/todos/all/users/" + ownerId;
     }
 
     @GetMapping("/all/users/{user_id}")
-    public String getAll(@PathVariable("user_id") long userId, Model model) {
-        List<ToDo> todos = todoService.getByUserId(userId);
-        model.addAttribute("todos", todos);
+    public String getAll(@PathVariable("user_id") long userId, Model model,
+                         @RequestParam(value = "after", required = false) String after,
+                         @RequestParam(value = "before", required = false) String before,
+                         WebRequest request) {
+        VersionStamp stamp = todoService.getUserToDosStamp(userId);
+        if (request.checkNotModified(stamp.getEtag(), stamp.getLastModified())) {
+            return null;
+        }
+        KeysetPage<TodoSummary> todos = todoService.getPageByUserId(userId, after, before, PAGE_SIZE);
+        List<Long> todoIds = new ArrayList<>(todos.getContent().size());
+        for (TodoSummary todo : todos.getContent()) {
+            todoIds.add(todo.getId());
+        }
+        Map<Long, TodoStats> stats = todoStatsService.getByTodoIds(todoIds);
+        model.addAttribute("todos", todos.getContent());
+        model.addAttribute("stats", stats);
+        model.addAttribute("todosPage", todos);
         model.addAttribute("user", userService.readById(userId));
-        logger.info("Page with all ToDo Lists of user with id " + userId + " was opened");
         return "todos-user";
     }
 
+    @GetMapping("/search/users/{user_id}")
+    public String search(@PathVariable("user_id") long userId, Model model,
+                         @RequestParam(value = "q", defaultValue = "") String query) {
+        List<SearchHit> hits = searchService.search(userId, query, SEARCH_LIMIT);
+        model.addAttribute("hits", hits);
+        model.addAttribute("query", query);
+        model.addAttribute("user", userService.readById(userId));
+        return "todos-search";
+    }
+
     @GetMapping("/{id}/add")
     public String addCollaborator(@PathVariable long id, @RequestParam("user_id") long userId) {
-        ToDo todo = todoService.readById(id);
-        List<User> collaborators = todo.getCollaborators();
-        collaborators.add(userService.readById(userId));
-        todo.setCollaborators(collaborators);
-        todoService.update(todo);
-        logger.info("Collaborator with id " + userId + " was successfully added to ToDo List with id " + id);
+        todoService.addCollaborator(id, userId);
         return "redirect:/todos/" + id + "/tasks";
     }
 
     @GetMapping("/{id}/remove")
     public String removeCollaborator(@PathVariable long id, @RequestParam("user_id") long userId) {
-        ToDo todo = todoService.readById(id);
-        List<User> collaborators = todo.getCollaborators();
-        collaborators.remove(userService.readById(userId));
-        todo.setCollaborators(collaborators);
-        todoService.update(todo);
-        logger.info("Collaborator with id " + userId + " was successfully removed from ToDo List with id " + id);
+        todoService.removeCollaborator(id, userId);
         return "redirect:/todos/" + id + "/tasks";
     }
 }
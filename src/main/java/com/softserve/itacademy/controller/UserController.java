@@ -1,5 +1,7 @@
 package com.softserve.itacademy.controller;
 
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.dto.VersionStamp;
 import com.softserve.itacademy.model.User;
 import com.softserve.itacademy.service.RoleService;
 import com.softserve.itacademy.service.UserService;
@@ -10,10 +12,12 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Controller
 @RequestMapping("/users")
 public class UserController {
+    private static final int PAGE_SIZE = 20;
 
     private final Logger logger = LoggerFactory.getLogger(UserController.class);
     private final UserService userService;
@@ -27,7 +31,6 @@ public class UserController {
     @GetMapping("/create")
     public String create(Model model) {
         model.addAttribute("user", new User());
-        logger.info("Page for creation new User was opened");
         return "create-user";
     }
 
@@ -40,7 +43,6 @@ public class UserController {
         user.setPassword(user.getPassword());
         user.setRole(roleService.readById(2));
         User newUser = userService.create(user);
-        logger.info("User was created successfully");
         return "redirect:/todos/all/users/" + newUser.getId();
     }
 
@@ -48,7 +50,6 @@ public class UserController {
     public String read(@PathVariable long id, Model model) {
         User user = userService.readById(id);
         model.addAttribute("user", user);
-        logger.info("User page with id " + id + " was opened");
         return "user-info";
     }
 
@@ -57,7 +58,6 @@ public class UserController {
         User user = userService.readById(id);
         model.addAttribute("user", user);
         model.addAttribute("roles", roleService.getAll());
-        logger.info("User page with id " + id + " for updating was opened");
         return "update-user";
     }
 
@@ -76,13 +76,12 @@ public class UserController {
         }
         if (oldUser.getRole().getName().equals("USER")) {
             user.setRole(oldUser.getRole());
-            logger.info("User with id " + id + " already has the role \"USER\"");
+            logger.info("User with id {} already has the role \"USER\"", id);
         } else {
             user.setRole(roleService.readById(roleId));
-            logger.info("User with id " + id + " updated role with id" + roleId);
+            logger.info("User with id {} updated role with id {}", id, roleId);
         }
         userService.update(user);
-        logger.info("User with id " + id + " was successfully updated");
         return "redirect:/users/" + id + "/read";
     }
 
@@ -90,14 +89,21 @@ public class UserController {
     @GetMapping("/{id}/delete")
     public String delete(@PathVariable("id") long id) {
         userService.delete(id);
-        logger.info("User with id " + id + " was successfully deleted");
         return "redirect:/users/all";
     }
 
     @GetMapping("/all")
-    public String getAll(Model model) {
-        model.addAttribute("users", userService.getAll());
-        logger.info("Users list was opened");
+    public String getAll(Model model,
+                         @RequestParam(value = "after", required = false) Long after,
+                         @RequestParam(value = "before", required = false) Long before,
+                         WebRequest request) {
+        VersionStamp stamp = userService.getAllStamp();
+        if (request.checkNotModified(stamp.getEtag(), stamp.getLastModified())) {
+            return null;
+        }
+        KeysetPage<User> users = userService.getPage(after, before, PAGE_SIZE);
+        model.addAttribute("users", users.getContent());
+        model.addAttribute("usersPage", users);
         return "users-list";
     }
 }
@@ -0,0 +1,92 @@
+package com.softserve.itacademy.controller.api;
+
+import com.softserve.itacademy.exception.GlobalExceptionHandler;
+import com.softserve.itacademy.exception.NullEntityReferenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Takes precedence over GlobalExceptionHandler for the REST controllers, which would otherwise render the error page.
+@RestControllerAdvice(basePackageClasses = ApiExceptionHandler.class)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ApiExceptionHandler {
+    private final Logger logger = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    @ExceptionHandler({NullEntityReferenceException.class, IllegalArgumentException.class,
+            HttpMessageNotReadableException.class})
+    public ResponseEntity<Map<String, Object>> badRequestHandler(HttpServletRequest request, Exception exception) {
+        return getResponse(request, HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<Map<String, Object>> validationHandler(HttpServletRequest request,
+                                                                 MethodArgumentNotValidException exception) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (FieldError error : exception.getBindingResult().getFieldErrors()) {
+            errors.putIfAbsent(error.getField(), error.getDefaultMessage());
+        }
+        ResponseEntity<Map<String, Object>> response = getResponse(request, HttpStatus.BAD_REQUEST, "Validation failed");
+        response.getBody().put("errors", errors);
+        return response;
+    }
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> entityNotFoundHandler(HttpServletRequest request,
+                                                                     EntityNotFoundException exception) {
+        return getResponse(request, HttpStatus.NOT_FOUND, exception.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> conflictHandler(HttpServletRequest request,
+                                                               OptimisticLockingFailureException exception) {
+        return getResponse(request, HttpStatus.CONFLICT, GlobalExceptionHandler.getConflictMessage(exception));
+    }
+
+    // Spring MVC's own exceptions (unsupported method, missing parameter, ...) carry their status. Anything else is
+    // a server error whose message may name tables, constraints or classes, so that message only goes to the log.
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Map<String, Object>> internalServerErrorHandler(HttpServletRequest request,
+                                                                          Exception exception) {
+        if (exception instanceof ErrorResponse) {
+            ErrorResponse response = (ErrorResponse) exception;
+            return getResponse(request, HttpStatus.valueOf(response.getStatusCode().value()),
+                    response.getBody().getDetail());
+        }
+        logger.error("Exception raised :: URL = {}", request.getRequestURL(), exception);
+        return getBody(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+    }
+
+    // Client errors are routine, a missing id most of all, so they stay out of the error log.
+    private ResponseEntity<Map<String, Object>> getResponse(HttpServletRequest request, HttpStatus httpStatus,
+                                                            String message) {
+        if (httpStatus == HttpStatus.NOT_FOUND) {
+            logger.debug("Exception raised = {} :: URL = {}", message, request.getRequestURL());
+        } else {
+            logger.warn("Exception raised = {} :: URL = {}", message, request.getRequestURL());
+        }
+        return getBody(httpStatus, message);
+    }
+
+    private static ResponseEntity<Map<String, Object>> getBody(HttpStatus httpStatus, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", httpStatus.value());
+        body.put("error", httpStatus.getReasonPhrase());
+        body.put("message", message);
+        return ResponseEntity.status(httpStatus).body(body);
+    }
+}
@@ -0,0 +1,66 @@
+package com.softserve.itacademy.controller.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// ?fields=id,name keeps only the listed properties of each returned object, or of each item of a page.
+@RestControllerAdvice(basePackageClasses = FieldFilterAdvice.class)
+public class FieldFilterAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+    private static final String FIELDS_PARAMETER = "fields";
+    private static final String PAGE_CONTENT = "content";
+
+    private final ObjectMapper objectMapper;
+
+    public FieldFilterAdvice(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest) || bodyContainer.getValue() == null) {
+            return;
+        }
+        String fields = ((ServletServerHttpRequest) request).getServletRequest().getParameter(FIELDS_PARAMETER);
+        // Error bodies are maps and are always sent whole.
+        if (fields == null || fields.trim().isEmpty() || bodyContainer.getValue() instanceof Map) {
+            return;
+        }
+        Set<String> retained = new HashSet<>();
+        for (String field : Arrays.asList(fields.split(","))) {
+            retained.add(field.trim());
+        }
+        JsonNode body = objectMapper.valueToTree(bodyContainer.getValue());
+        if (body.isObject() && body.get(PAGE_CONTENT) != null && body.get(PAGE_CONTENT).isArray()) {
+            retain(body.get(PAGE_CONTENT), retained);
+        } else {
+            retain(body, retained);
+        }
+        bodyContainer.setValue(body);
+    }
+
+    private static void retain(JsonNode node, Set<String> fields) {
+        if (node.isArray()) {
+            for (JsonNode item : node) {
+                retain(item, fields);
+            }
+        } else if (node.isObject()) {
+            ((ObjectNode) node).retain(fields);
+        }
+    }
+}
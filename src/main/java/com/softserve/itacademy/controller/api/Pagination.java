@@ -0,0 +1,13 @@
+package com.softserve.itacademy.controller.api;
+
+final class Pagination {
+    static final String DEFAULT_SIZE = "20";
+    static final int MAX_SIZE = 100;
+
+    private Pagination() {
+    }
+
+    static int size(int requested) {
+        return Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+}
@@ -0,0 +1,33 @@
+package com.softserve.itacademy.controller.api;
+
+import com.softserve.itacademy.dto.StateDto;
+import com.softserve.itacademy.service.StateService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/states")
+public class StateApiController {
+    private final StateService stateService;
+
+    public StateApiController(StateService stateService) {
+        this.stateService = stateService;
+    }
+
+    @GetMapping
+    public List<StateDto> getAll() {
+        return stateService.getAll().stream()
+                .map(StateDto::of)
+                .collect(Collectors.toList());
+    }
+
+    @GetMapping("/{id}")
+    public StateDto read(@PathVariable long id) {
+        return StateDto.of(stateService.readById(id));
+    }
+}
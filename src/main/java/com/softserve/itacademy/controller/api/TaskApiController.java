@@ -0,0 +1,48 @@
+package com.softserve.itacademy.controller.api;
+
+import com.softserve.itacademy.dto.TaskDto;
+import com.softserve.itacademy.dto.TaskTransformer;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.service.StateService;
+import com.softserve.itacademy.service.TaskService;
+import com.softserve.itacademy.service.ToDoService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/tasks")
+public class TaskApiController {
+    private final TaskService taskService;
+    private final ToDoService todoService;
+    private final StateService stateService;
+
+    public TaskApiController(TaskService taskService, ToDoService todoService, StateService stateService) {
+        this.taskService = taskService;
+        this.todoService = todoService;
+        this.stateService = stateService;
+    }
+
+    @GetMapping("/{task_id}")
+    public TaskDto read(@PathVariable("task_id") long taskId) {
+        return TaskTransformer.convertToDto(taskService.readById(taskId));
+    }
+
+    @PutMapping("/{task_id}")
+    public TaskDto update(@PathVariable("task_id") long taskId, @Validated @RequestBody TaskDto taskDto) {
+        Task oldTask = taskService.readById(taskId);
+        taskDto.setId(taskId);
+        Task task = TaskTransformer.convertToEntity(
+                taskDto,
+                taskDto.getTodoId() != 0 ? todoService.readById(taskDto.getTodoId()) : oldTask.getTodo(),
+                taskDto.getStateId() != 0 ? stateService.readById(taskDto.getStateId()) : oldTask.getState()
+        );
+        return TaskTransformer.convertToDto(taskService.update(task));
+    }
+
+    @DeleteMapping("/{task_id}")
+    public ResponseEntity<Void> delete(@PathVariable("task_id") long taskId) {
+        taskService.delete(taskId);
+        return ResponseEntity.noContent().build();
+    }
+}
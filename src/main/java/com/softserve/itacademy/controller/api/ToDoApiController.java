@@ -0,0 +1,117 @@
+package com.softserve.itacademy.controller.api;
+
+import com.softserve.itacademy.dto.BatchResult;
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.dto.TaskBatchDto;
+import com.softserve.itacademy.dto.TaskDto;
+import com.softserve.itacademy.dto.TaskTransformer;
+import com.softserve.itacademy.dto.ToDoDto;
+import com.softserve.itacademy.dto.ToDoTransformer;
+import com.softserve.itacademy.dto.UserDto;
+import com.softserve.itacademy.dto.UserTransformer;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.State;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.service.StateService;
+import com.softserve.itacademy.service.TaskService;
+import com.softserve.itacademy.service.ToDoService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/todos")
+public class ToDoApiController {
+    private final ToDoService todoService;
+    private final TaskService taskService;
+    private final StateService stateService;
+
+    public ToDoApiController(ToDoService todoService, TaskService taskService, StateService stateService) {
+        this.todoService = todoService;
+        this.taskService = taskService;
+        this.stateService = stateService;
+    }
+
+    @GetMapping("/{todo_id}")
+    public ToDoDto read(@PathVariable("todo_id") long todoId) {
+        return ToDoTransformer.convertToDto(todoService.readById(todoId));
+    }
+
+    @PutMapping("/{todo_id}")
+    public ToDoDto update(@PathVariable("todo_id") long todoId, @Validated @RequestBody ToDoDto todoDto) {
+        ToDo oldTodo = todoService.readById(todoId);
+        todoDto.setId(todoId);
+        if (todoDto.getCreatedAt() == null) {
+            todoDto.setCreatedAt(oldTodo.getCreatedAt());
+        }
+        return ToDoTransformer.convertToDto(
+                todoService.update(ToDoTransformer.convertToEntity(todoDto, oldTodo.getOwner())));
+    }
+
+    @DeleteMapping("/{todo_id}")
+    public ResponseEntity<Void> delete(@PathVariable("todo_id") long todoId) {
+        todoService.delete(todoId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{todo_id}/tasks")
+    public KeysetPage<TaskDto> getTasks(@PathVariable("todo_id") long todoId,
+                                        @RequestParam(value = "after", required = false) Long after,
+                                        @RequestParam(value = "before", required = false) Long before,
+                                        @RequestParam(value = "size", defaultValue = Pagination.DEFAULT_SIZE) int size) {
+        return taskService.getPageByTodoId(todoId, after, before, Pagination.size(size))
+                .map(TaskTransformer::convertToDto);
+    }
+
+    @PostMapping("/{todo_id}/tasks")
+    public ResponseEntity<TaskDto> createTask(@PathVariable("todo_id") long todoId,
+                                              @Validated @RequestBody TaskDto taskDto) {
+        State state = taskDto.getStateId() != 0
+                ? stateService.readById(taskDto.getStateId())
+                : stateService.getByName("New");
+        taskDto.setId(0);
+        Task task = taskService.create(TaskTransformer.convertToEntity(taskDto, todoService.readById(todoId), state));
+        return ResponseEntity.created(URI.create("/api/v1/tasks/" + task.getId()))
+                .body(TaskTransformer.convertToDto(task));
+    }
+
+    @PostMapping("/{todo_id}/tasks/batch")
+    public List<BatchResult> batchTasks(@PathVariable("todo_id") long todoId,
+                                        @Validated @RequestBody TaskBatchDto batchDto) {
+        switch (batchDto.getOperation()) {
+            case MOVE:
+                return taskService.updateState(todoId, batchDto.getIds(), stateService.readById(batchDto.getStateId()));
+            case PRIORITIZE:
+                Priority priority = Priority.valueOf(batchDto.getPriority());
+                return taskService.updatePriority(todoId, batchDto.getIds(), priority);
+            default:
+                return taskService.deleteAll(todoId, batchDto.getIds());
+        }
+    }
+
+    @GetMapping("/{todo_id}/collaborators")
+    public List<UserDto> getCollaborators(@PathVariable("todo_id") long todoId) {
+        return todoService.readById(todoId).getCollaborators().stream()
+                .map(UserTransformer::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @PutMapping("/{todo_id}/collaborators/{user_id}")
+    public ResponseEntity<Void> addCollaborator(@PathVariable("todo_id") long todoId,
+                                                @PathVariable("user_id") long userId) {
+        todoService.addCollaborator(todoId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{todo_id}/collaborators/{user_id}")
+    public ResponseEntity<Void> removeCollaborator(@PathVariable("todo_id") long todoId,
+                                                   @PathVariable("user_id") long userId) {
+        todoService.removeCollaborator(todoId, userId);
+        return ResponseEntity.noContent().build();
+    }
+}
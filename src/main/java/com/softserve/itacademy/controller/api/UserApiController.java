@@ -0,0 +1,105 @@
+package com.softserve.itacademy.controller.api;
+
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.dto.SearchHit;
+import com.softserve.itacademy.dto.ToDoDto;
+import com.softserve.itacademy.dto.ToDoTransformer;
+import com.softserve.itacademy.dto.UserDto;
+import com.softserve.itacademy.dto.UserTransformer;
+import com.softserve.itacademy.model.Role;
+import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.model.User;
+import com.softserve.itacademy.service.RoleService;
+import com.softserve.itacademy.service.SearchService;
+import com.softserve.itacademy.service.ToDoService;
+import com.softserve.itacademy.service.UserService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/users")
+public class UserApiController {
+    private static final String DEFAULT_ROLE = "USER";
+
+    private final UserService userService;
+    private final RoleService roleService;
+    private final ToDoService todoService;
+    private final SearchService searchService;
+
+    public UserApiController(UserService userService, RoleService roleService, ToDoService todoService,
+                             SearchService searchService) {
+        this.userService = userService;
+        this.roleService = roleService;
+        this.todoService = todoService;
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    public KeysetPage<UserDto> getAll(@RequestParam(value = "after", required = false) Long after,
+                                      @RequestParam(value = "before", required = false) Long before,
+                                      @RequestParam(value = "size", defaultValue = Pagination.DEFAULT_SIZE) int size) {
+        return userService.getPage(after, before, Pagination.size(size)).map(UserTransformer::convertToDto);
+    }
+
+    @GetMapping("/{id}")
+    public UserDto read(@PathVariable long id) {
+        return UserTransformer.convertToDto(userService.readById(id));
+    }
+
+    @PostMapping
+    public ResponseEntity<UserDto> create(@Validated @RequestBody UserDto userDto) {
+        if (userDto.getPassword() == null || userDto.getPassword().trim().isEmpty()) {
+            throw new IllegalArgumentException("The 'password' cannot be empty");
+        }
+        userDto.setId(0);
+        User user = userService.create(
+                UserTransformer.convertToEntity(userDto, userDto.getPassword(), roleService.getByName(DEFAULT_ROLE)));
+        return ResponseEntity.created(URI.create("/api/v1/users/" + user.getId()))
+                .body(UserTransformer.convertToDto(user));
+    }
+
+    @PutMapping("/{id}")
+    public UserDto update(@PathVariable long id, @Validated @RequestBody UserDto userDto) {
+        User oldUser = userService.readById(id);
+        String password = userDto.getPassword() != null ? userDto.getPassword() : oldUser.getPassword();
+        Role role = userDto.getRoleId() != 0 ? roleService.readById(userDto.getRoleId()) : oldUser.getRole();
+        userDto.setId(id);
+        return UserTransformer.convertToDto(
+                userService.update(UserTransformer.convertToEntity(userDto, password, role)));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable long id) {
+        userService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}/todos")
+    public KeysetPage<ToDoDto> getToDos(@PathVariable long id,
+                                        @RequestParam(value = "after", required = false) String after,
+                                        @RequestParam(value = "before", required = false) String before,
+                                        @RequestParam(value = "size", defaultValue = Pagination.DEFAULT_SIZE) int size) {
+        return todoService.getPageByUserId(id, after, before, Pagination.size(size))
+                .map(ToDoTransformer::convertToDto);
+    }
+
+    @PostMapping("/{id}/todos")
+    public ResponseEntity<ToDoDto> createToDo(@PathVariable long id, @Validated @RequestBody ToDoDto todoDto) {
+        todoDto.setId(0);
+        todoDto.setCreatedAt(LocalDateTime.now());
+        ToDo todo = todoService.create(ToDoTransformer.convertToEntity(todoDto, userService.readById(id)));
+        return ResponseEntity.created(URI.create("/api/v1/todos/" + todo.getId()))
+                .body(ToDoTransformer.convertToDto(todo));
+    }
+
+    @GetMapping("/{id}/search")
+    public List<SearchHit> search(@PathVariable long id, @RequestParam("q") String query,
+                                  @RequestParam(value = "size", defaultValue = Pagination.DEFAULT_SIZE) int size) {
+        return searchService.search(id, query, Pagination.size(size));
+    }
+}
@@ -0,0 +1,23 @@
+package com.softserve.itacademy.dto;
+
+public class BatchResult {
+    public enum Status {
+        UPDATED, DELETED, NOT_FOUND
+    }
+
+    private final long id;
+    private final Status status;
+
+    public BatchResult(long id, Status status) {
+        this.id = id;
+        this.status = status;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,57 @@
+package com.softserve.itacademy.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class Dashboard {
+    private final long users;
+    private final List<NamedCount> usersByRole;
+    private final long todos;
+    private final List<NamedCount> topOwners;
+    private final TodoStats tasks;
+    private final List<NamedCount> mostShared;
+    private final LocalDateTime generatedAt;
+
+    public Dashboard(long users, List<NamedCount> usersByRole, long todos, List<NamedCount> topOwners,
+                     TodoStats tasks, List<NamedCount> mostShared, LocalDateTime generatedAt) {
+        this.users = users;
+        this.usersByRole = usersByRole;
+        this.todos = todos;
+        this.topOwners = topOwners;
+        this.tasks = tasks;
+        this.mostShared = mostShared;
+        this.generatedAt = generatedAt;
+    }
+
+    public long getUsers() {
+        return users;
+    }
+
+    public List<NamedCount> getUsersByRole() {
+        return usersByRole;
+    }
+
+    public long getTodos() {
+        return todos;
+    }
+
+    public long getTodosPerUser() {
+        return users == 0 ? 0 : Math.round((double) todos / users);
+    }
+
+    public List<NamedCount> getTopOwners() {
+        return topOwners;
+    }
+
+    public TodoStats getTasks() {
+        return tasks;
+    }
+
+    public List<NamedCount> getMostShared() {
+        return mostShared;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+}
@@ -0,0 +1,7 @@
+package com.softserve.itacademy.dto;
+
+public interface IndexedText {
+    long getId();
+    long getTodoId();
+    String getText();
+}
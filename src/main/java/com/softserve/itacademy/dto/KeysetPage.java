@@ -0,0 +1,63 @@
+package com.softserve.itacademy.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public class KeysetPage<T> {
+    private final List<T> content;
+    private final String prevCursor;
+    private final String nextCursor;
+
+    public KeysetPage(List<T> content, String prevCursor, String nextCursor) {
+        this.content = content;
+        this.prevCursor = prevCursor;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> KeysetPage<T> forward(List<T> rows, int size, boolean hasCursor, Function<T, ?> keyOf) {
+        boolean hasMore = rows.size() > size;
+        List<T> content = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+        String prev = hasCursor && !content.isEmpty() ? String.valueOf(keyOf.apply(content.get(0))) : null;
+        String next = hasMore ? String.valueOf(keyOf.apply(content.get(content.size() - 1))) : null;
+        return new KeysetPage<>(content, prev, next);
+    }
+
+    public static <T> KeysetPage<T> backward(List<T> rows, int size, Function<T, ?> keyOf) {
+        boolean hasMore = rows.size() > size;
+        List<T> content = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+        Collections.reverse(content);
+        String prev = hasMore ? String.valueOf(keyOf.apply(content.get(0))) : null;
+        String next = !content.isEmpty() ? String.valueOf(keyOf.apply(content.get(content.size() - 1))) : null;
+        return new KeysetPage<>(content, prev, next);
+    }
+
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+        List<R> mapped = new ArrayList<>(content.size());
+        for (T item : content) {
+            mapped.add(mapper.apply(item));
+        }
+        return new KeysetPage<>(mapped, prevCursor, nextCursor);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getPrevCursor() {
+        return prevCursor;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasPrev() {
+        return prevCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
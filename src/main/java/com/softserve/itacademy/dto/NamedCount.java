@@ -0,0 +1,7 @@
+package com.softserve.itacademy.dto;
+
+public interface NamedCount {
+    long getId();
+    String getName();
+    long getCount();
+}
@@ -0,0 +1,35 @@
+package com.softserve.itacademy.dto;
+
+public class SearchHit {
+    public enum Type {
+        TASK, TODO
+    }
+
+    private final Type type;
+    private final long id;
+    private final long todoId;
+    private final String text;
+
+    public SearchHit(Type type, long id, long todoId, String text) {
+        this.type = type;
+        this.id = id;
+        this.todoId = todoId;
+        this.text = text;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getTodoId() {
+        return todoId;
+    }
+
+    public String getText() {
+        return text;
+    }
+}
@@ -0,0 +1,25 @@
+package com.softserve.itacademy.dto;
+
+import com.softserve.itacademy.model.State;
+
+public class StateDto {
+    private final long id;
+    private final String name;
+
+    public StateDto(long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public static StateDto of(State state) {
+        return new StateDto(state.getId(), state.getName());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,9 @@
+package com.softserve.itacademy.dto;
+
+import java.time.LocalDateTime;
+
+public interface TableStamp {
+    long getTotal();
+    long getVersions();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,74 @@
+package com.softserve.itacademy.dto;
+
+import com.softserve.itacademy.model.Priority;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public class TaskBatchDto {
+    public enum Operation {
+        MOVE, PRIORITIZE, DELETE
+    }
+
+    @NotNull(message = "The 'operation' cannot be empty")
+    private Operation operation;
+
+    @NotEmpty(message = "The 'ids' cannot be empty")
+    private List<Long> ids;
+
+    private Long stateId;
+
+    private String priority;
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(Operation operation) {
+        this.operation = operation;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public Long getStateId() {
+        return stateId;
+    }
+
+    public void setStateId(Long stateId) {
+        this.stateId = stateId;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    @AssertTrue(message = "The 'stateId' cannot be empty when moving tasks")
+    public boolean isStateIdGiven() {
+        return operation != Operation.MOVE || stateId != null;
+    }
+
+    @AssertTrue(message = "The 'priority' must be one of LOW, MEDIUM, HIGH when prioritizing tasks")
+    public boolean isPriorityGiven() {
+        if (operation != Operation.PRIORITIZE) {
+            return true;
+        }
+        for (Priority value : Priority.values()) {
+            if (value.name().equals(priority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
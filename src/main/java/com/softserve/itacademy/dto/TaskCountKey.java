@@ -0,0 +1,9 @@
+package com.softserve.itacademy.dto;
+
+import com.softserve.itacademy.model.Priority;
+
+public interface TaskCountKey {
+    long getId();
+    Long getStateId();
+    Priority getPriority();
+}
@@ -1,7 +1,7 @@
 package com.softserve.itacademy.dto;
 
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.NotNull;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import java.util.Objects;
 
 public class TaskDto {
@@ -19,15 +19,22 @@ public class TaskDto {
     @NotNull
     private long stateId;
 
+    private long version;
+
     public TaskDto() {
     }
 
     public TaskDto(long id, String name, String priority, long todoId, long stateId) {
+        this(id, name, priority, todoId, stateId, 0);
+    }
+
+    public TaskDto(long id, String name, String priority, long todoId, long stateId, long version) {
         this.id = id;
         this.name = name;
         this.priority = priority;
         this.todoId = todoId;
         this.stateId = stateId;
+        this.version = version;
     }
 
     public long getId() {
@@ -44,6 +51,7 @@ public class TaskDto {
         if (id != taskDto.id) return false;
         if (todoId != taskDto.todoId) return false;
         if (stateId != taskDto.stateId) return false;
+        if (version != taskDto.version) return false;
         if (!Objects.equals(name, taskDto.name)) return false;
         return Objects.equals(priority, taskDto.priority);
     }
@@ -55,6 +63,7 @@ public class TaskDto {
         result = 31 * result + (priority != null ? priority.hashCode() : 0);
         result = 31 * result + (int) (todoId ^ (todoId >>> 32));
         result = 31 * result + (int) (stateId ^ (stateId >>> 32));
+        result = 31 * result + (int) (version ^ (version >>> 32));
         return result;
     }
 
@@ -93,4 +102,12 @@ public class TaskDto {
     public void setStateId(long stateId) {
         this.stateId = stateId;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
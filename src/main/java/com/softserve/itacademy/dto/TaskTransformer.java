@@ -12,7 +12,8 @@ public class TaskTransformer {
                 task.getName(),
                 task.getPriority().toString(),
                 task.getTodo().getId(),
-                task.getState().getId()
+                task.getState().getId(),
+                task.getVersion()
         );
     }
 
@@ -23,6 +24,7 @@ public class TaskTransformer {
         task.setPriority(Priority.valueOf(taskDto.getPriority()));
         task.setTodo(todo);
         task.setState(state);
+        task.setVersion(taskDto.getVersion());
         return task;
     }
 }
@@ -0,0 +1,68 @@
+package com.softserve.itacademy.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import java.time.LocalDateTime;
+
+public class ToDoDto {
+    private long id;
+
+    @NotBlank(message = "The 'title' cannot be empty")
+    private String title;
+
+    private LocalDateTime createdAt;
+
+    private long ownerId;
+
+    private long version;
+
+    public ToDoDto() {
+    }
+
+    public ToDoDto(long id, String title, LocalDateTime createdAt, long ownerId, long version) {
+        this.id = id;
+        this.title = title;
+        this.createdAt = createdAt;
+        this.ownerId = ownerId;
+        this.version = version;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
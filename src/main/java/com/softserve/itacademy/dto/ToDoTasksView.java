@@ -0,0 +1,37 @@
+package com.softserve.itacademy.dto;
+
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.model.User;
+
+import java.util.List;
+
+public class ToDoTasksView {
+    private final ToDo todo;
+    private final KeysetPage<Task> tasks;
+    private final List<User> users;
+    private final TodoStats stats;
+
+    public ToDoTasksView(ToDo todo, KeysetPage<Task> tasks, List<User> users, TodoStats stats) {
+        this.todo = todo;
+        this.tasks = tasks;
+        this.users = users;
+        this.stats = stats;
+    }
+
+    public ToDo getTodo() {
+        return todo;
+    }
+
+    public KeysetPage<Task> getTasks() {
+        return tasks;
+    }
+
+    public List<User> getUsers() {
+        return users;
+    }
+
+    public TodoStats getStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,36 @@
+package com.softserve.itacademy.dto;
+
+import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.model.User;
+
+public class ToDoTransformer {
+    public static ToDoDto convertToDto(ToDo todo) {
+        return new ToDoDto(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getCreatedAt(),
+                todo.getOwner().getId(),
+                todo.getVersion()
+        );
+    }
+
+    public static ToDoDto convertToDto(TodoSummary todo) {
+        return new ToDoDto(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getCreatedAt(),
+                todo.getOwnerId(),
+                todo.getVersion()
+        );
+    }
+
+    public static ToDo convertToEntity(ToDoDto todoDto, User owner) {
+        ToDo todo = new ToDo();
+        todo.setId(todoDto.getId());
+        todo.setTitle(todoDto.getTitle());
+        todo.setCreatedAt(todoDto.getCreatedAt());
+        todo.setOwner(owner);
+        todo.setVersion(todoDto.getVersion());
+        return todo;
+    }
+}
@@ -0,0 +1,47 @@
+package com.softserve.itacademy.dto;
+
+import com.softserve.itacademy.model.Priority;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TodoStats {
+    private static final String DONE = "Done";
+
+    private final Map<String, Long> byState = new LinkedHashMap<>();
+    private final Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+    private long total;
+
+    public TodoStats() {
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, 0L);
+        }
+    }
+
+    public void add(String state, Priority priority, long count) {
+        byState.merge(state, count, Long::sum);
+        byPriority.merge(priority, count, Long::sum);
+        total += count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<String, Long> getByState() {
+        return byState;
+    }
+
+    public Map<Priority, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public long getDone() {
+        return byState.getOrDefault(DONE, 0L);
+    }
+
+    public long getPercentDone() {
+        return total == 0 ? 0 : getDone() * 100 / total;
+    }
+}
@@ -0,0 +1,13 @@
+package com.softserve.itacademy.dto;
+
+import java.time.LocalDateTime;
+
+public interface TodoSummary {
+    long getId();
+    String getTitle();
+    LocalDateTime getCreatedAt();
+    long getOwnerId();
+    String getOwnerFirstName();
+    String getOwnerLastName();
+    long getVersion();
+}
@@ -0,0 +1,29 @@
+package com.softserve.itacademy.dto;
+
+import com.softserve.itacademy.model.Role;
+import com.softserve.itacademy.model.User;
+
+public class UserTransformer {
+    public static UserDto convertToDto(User user) {
+        return new UserDto(
+                user.getId(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.getRole().getId(),
+                user.getVersion()
+        );
+    }
+
+    public static User convertToEntity(UserDto userDto, String password, Role role) {
+        User user = new User();
+        user.setId(userDto.getId());
+        user.setFirstName(userDto.getFirstName());
+        user.setLastName(userDto.getLastName());
+        user.setEmail(userDto.getEmail());
+        user.setPassword(password);
+        user.setRole(role);
+        user.setVersion(userDto.getVersion());
+        return user;
+    }
+}
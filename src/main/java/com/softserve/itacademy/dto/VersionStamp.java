@@ -0,0 +1,43 @@
+package com.softserve.itacademy.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+public class VersionStamp {
+    private final String etag;
+    private final long lastModified;
+
+    public VersionStamp(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    // Each part contributes its row count, version (or id) sum and latest update, so inserts, deletes
+    // and updates of the rows behind a page all change the tag without the rows being loaded.
+    public static VersionStamp of(List<TableStamp> parts) {
+        StringBuilder etag = new StringBuilder();
+        long lastModified = -1;
+        for (TableStamp part : parts) {
+            if (etag.length() > 0) {
+                etag.append('.');
+            }
+            etag.append(Long.toHexString(part.getTotal())).append('-').append(Long.toHexString(part.getVersions()));
+            LocalDateTime updatedAt = part.getUpdatedAt();
+            if (updatedAt != null) {
+                long millis = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                etag.append('-').append(Long.toHexString(millis));
+                lastModified = Math.max(lastModified, millis);
+            }
+        }
+        return new VersionStamp(etag.toString(), lastModified);
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+}
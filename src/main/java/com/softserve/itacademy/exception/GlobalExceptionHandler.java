@@ -1,14 +1,18 @@
 package com.softserve.itacademy.exception;
 
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;import org.springframework.http.HttpStatus;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
-import javax.persistence.EntityNotFoundException;
-import javax.servlet.http.HttpServletRequest;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -21,12 +25,36 @@ public class GlobalExceptionHandler {
         return getModelAndView(request, HttpStatus.BAD_REQUEST, exception);
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(value = HttpStatus.BAD_REQUEST)
+    public ModelAndView illegalArgumentExceptionHandler(HttpServletRequest request, IllegalArgumentException exception) {
+        return getModelAndView(request, HttpStatus.BAD_REQUEST, exception);
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     @ResponseStatus(value= HttpStatus.NOT_FOUND)
     public ModelAndView entityNotFoundExceptionHandler(HttpServletRequest request, EntityNotFoundException exception) {
         return getModelAndView(request, HttpStatus.NOT_FOUND, exception);
     }
 
+    // Spring 6 reports unmapped URLs as an exception, which the catch-all below would turn into a 500.
+    @ExceptionHandler(NoResourceFoundException.class)
+    @ResponseStatus(value = HttpStatus.NOT_FOUND)
+    public ModelAndView noResourceFoundExceptionHandler(HttpServletRequest request, NoResourceFoundException exception) {
+        return getModelAndView(request, HttpStatus.NOT_FOUND, exception);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(value = HttpStatus.CONFLICT)
+    public ModelAndView conflictHandler(HttpServletRequest request, OptimisticLockingFailureException exception) {
+        logger.warn("Concurrent update rejected :: URL = {}", request.getRequestURL());
+        ModelAndView modelAndView = new ModelAndView("conflict");
+        modelAndView.addObject("code", HttpStatus.CONFLICT.value() + " / " + HttpStatus.CONFLICT.getReasonPhrase());
+        modelAndView.addObject("message", getConflictMessage(exception));
+        modelAndView.addObject("reloadUrl", request.getRequestURI());
+        return modelAndView;
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(value= HttpStatus.INTERNAL_SERVER_ERROR)
     public ModelAndView internalServerErrorHandler(HttpServletRequest request, Exception exception) {
@@ -34,10 +62,24 @@ public class GlobalExceptionHandler {
     }
 
     private ModelAndView getModelAndView(HttpServletRequest request, HttpStatus httpStatus, Exception exception) {
-        logger.error("Exception raised = {} :: URL = {}", exception.getMessage(), request.getRequestURL());
+        if (httpStatus == HttpStatus.NOT_FOUND) {
+            logger.debug("Exception raised = {} :: URL = {}", exception.getMessage(), request.getRequestURL());
+        } else {
+            logger.error("Exception raised = {} :: URL = {}", exception.getMessage(), request.getRequestURL());
+        }
         ModelAndView modelAndView = new ModelAndView("error");
         modelAndView.addObject("code", httpStatus.value() + " / " + httpStatus.getReasonPhrase());
         modelAndView.addObject("message", exception.getMessage());
         return modelAndView;
     }
+
+    public static String getConflictMessage(OptimisticLockingFailureException exception) {
+        String record = "The record";
+        if (exception instanceof ObjectOptimisticLockingFailureException) {
+            ObjectOptimisticLockingFailureException failure = (ObjectOptimisticLockingFailureException) exception;
+            String className = failure.getPersistentClassName();
+            record = className.substring(className.lastIndexOf('.') + 1) + " with id " + failure.getIdentifier();
+        }
+        return record + " was changed by someone else. Reload it and apply your changes again.";
+    }
 }
@@ -0,0 +1,122 @@
+package com.softserve.itacademy.importer;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ImportReader {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // Reads a JSON array of objects, or a CSV file whose first line holds the column names. A malformed file is
+    // rejected with an IllegalArgumentException naming the line, which the exception handlers answer with a 400.
+    public static List<Map<String, String>> read(String filename, InputStream in) {
+        try {
+            if (filename != null && filename.toLowerCase().endsWith(".json")) {
+                return readJson(in);
+            }
+            return readCsv(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static String required(Map<String, String> row, String column, int line) {
+        String value = row.get(column);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Row " + line + ": the '" + column + "' cannot be empty");
+        }
+        return value.trim();
+    }
+
+    public static <E extends Enum<E>> E required(Map<String, String> row, String column, int line, Class<E> type) {
+        String value = required(row, column, line);
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Row " + line + ": '" + value + "' is not a valid " + column);
+        }
+    }
+
+    private static List<Map<String, String>> readJson(InputStream in) throws IOException {
+        try {
+            return MAPPER.readValue(in, new TypeReference<List<Map<String, String>>>() {});
+        } catch (JsonProcessingException e) {
+            JsonLocation location = e.getLocation();
+            String position = location != null ? "Line " + location.getLineNr() + ", column " + location.getColumnNr()
+                    : "The file";
+            throw new IllegalArgumentException(position + ": not a JSON array of objects with text values ("
+                    + e.getOriginalMessage() + ")");
+        }
+    }
+
+    private static List<Map<String, String>> readCsv(BufferedReader reader) throws IOException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        String line = reader.readLine();
+        if (line == null) {
+            return rows;
+        }
+        int number = 1;
+        List<String> header = splitCsvLine(line, number);
+        while ((line = reader.readLine()) != null) {
+            number++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            List<String> values = splitCsvLine(line, number);
+            if (values.size() > header.size()) {
+                throw new IllegalArgumentException("Line " + number + ": " + values.size() + " values for "
+                        + header.size() + " columns in '" + line + "'");
+            }
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                row.put(header.get(i).trim(), values.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // Quoted values cannot span lines, so a quote still open at the end of the line is an error.
+    private static List<String> splitCsvLine(String line, int number) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Line " + number + ": unterminated quoted value in '" + line + "'");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
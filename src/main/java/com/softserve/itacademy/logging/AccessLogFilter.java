@@ -0,0 +1,50 @@
+package com.softserve.itacademy.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogFilter.class);
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !logger.isInfoEnabled() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    // One event per request, logged with the route template rather than the raw path,
+    // so the message is built only once and the route values stay low-cardinality.
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            logger.info("{} {} route={} ids={} status={} durationMs={}",
+                    request.getMethod(), request.getRequestURI(),
+                    route != null ? route : "UNKNOWN", ids(request),
+                    status, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> ids(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables instanceof Map ? (Map<String, String>) variables : Collections.<String, String>emptyMap();
+    }
+}
@@ -0,0 +1,61 @@
+package com.softserve.itacademy.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Lets at most maxPerSecond enabled events of loggerName through per wall-clock second and denies
+// the rest before a logging event is even created, so a burst of SQL cannot flood the appender queue.
+// The first event of a later second reports how many were denied in the last window.
+public class RateLimitFilter extends TurboFilter {
+    // The window's second in the high 32 bits and the events seen in it in the low 32, so the window
+    // and its count always change together.
+    private final AtomicLong state = new AtomicLong();
+    private final LongSupplier clock;
+    private String loggerName;
+    private int maxPerSecond = 100;
+
+    public RateLimitFilter() {
+        this(System::currentTimeMillis);
+    }
+
+    RateLimitFilter(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        // isXxxEnabled() checks arrive without a format and are not counted.
+        if (format == null || maxPerSecond <= 0 || !logger.getName().equals(loggerName)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        long second = clock.getAsLong() / 1000;
+        long current;
+        long next;
+        do {
+            current = state.get();
+            next = (current >>> 32) >= second ? current + 1 : second << 32 | 1;
+        } while (!state.compareAndSet(current, next));
+        if ((current >>> 32) < second && (int) current > maxPerSecond) {
+            logger.getLoggerContext().getLogger(RateLimitFilter.class).warn(
+                    "Suppressed {} {} events over the limit of {} per second",
+                    (int) current - maxPerSecond, loggerName, maxPerSecond);
+        }
+        return (int) next <= maxPerSecond ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
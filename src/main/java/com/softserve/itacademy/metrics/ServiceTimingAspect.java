@@ -0,0 +1,45 @@
+package com.softserve.itacademy.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+// Times every method of the service interfaces; ordered outside the transaction advice so
+// commit time is part of the measurement.
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceTimingAspect {
+    private final MeterRegistry registry;
+
+    public ServiceTimingAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(* com.softserve.itacademy.service.*Service.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("todolist.service")
+                    .description("Service method latency")
+                    .tag("service", serviceName(joinPoint))
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+
+    private static String serviceName(ProceedingJoinPoint joinPoint) {
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return name.endsWith("Impl") ? name.substring(0, name.length() - "Impl".length()) : name;
+    }
+}
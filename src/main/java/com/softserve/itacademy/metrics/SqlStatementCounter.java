@@ -0,0 +1,41 @@
+package com.softserve.itacademy.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Counts the SQL statements Hibernate prepares for the current request; reset at the start of each request. Tasks
+// the request hands to an executor through decorate add to the same count.
+public class SqlStatementCounter implements StatementInspector, TaskDecorator {
+    private static final ThreadLocal<AtomicInteger> COUNT = ThreadLocal.withInitial(AtomicInteger::new);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get().incrementAndGet();
+        return sql;
+    }
+
+    // A fresh counter, so a task still running for the previous request cannot add to this one.
+    public void reset() {
+        COUNT.set(new AtomicInteger());
+    }
+
+    public int getCount() {
+        return COUNT.get().get();
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        AtomicInteger count = COUNT.get();
+        return () -> {
+            AtomicInteger previous = COUNT.get();
+            COUNT.set(count);
+            try {
+                task.run();
+            } finally {
+                COUNT.set(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.softserve.itacademy.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class SqlStatementMetricsInterceptor implements HandlerInterceptor {
+    private final SqlStatementCounter counter;
+    private final MeterRegistry registry;
+
+    public SqlStatementMetricsInterceptor(SqlStatementCounter counter, MeterRegistry registry) {
+        this.counter = counter;
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        counter.reset();
+        return true;
+    }
+
+    // Runs after the view is rendered, so statements issued while rendering are included.
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("todolist.request.sql.statements")
+                .description("SQL statements prepared while handling a request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                .register(registry)
+                .record(counter.getCount());
+    }
+}
@@ -1,14 +1,18 @@
 package com.softserve.itacademy.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.proxy.HibernateProxy;
 
-import javax.persistence.*;
-import javax.validation.constraints.NotBlank;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
 import java.util.List;
 import java.util.Objects;
 
 @Entity
 @Table(name = "states")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "states")
 public class State {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,31 +1,51 @@
 package com.softserve.itacademy.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.SqlTypes;
 
-import javax.persistence.*;
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.NotNull;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
 @Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
+@NamedEntityGraph(name = "Task.withState", attributeNodes = @NamedAttributeNode("state"))
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "tasks_id_seq", initialValue = 100, allocationSize = 50)
     private long id;
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    // A plain varchar column; Hibernate 6 would otherwise expect a native enum type on H2.
     @Column(name = "priority")
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private Priority priority;
 
-    @ManyToOne
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "todo_id")
     private ToDo todo;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "state_id")
     private State state;
 
@@ -48,6 +68,22 @@ public class Task {
         this.name = name;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public Priority getPriority() {
         return priority;
     }
@@ -94,7 +130,7 @@ public class Task {
                 "id = " + id + ", " +
                 "name = " + name + ", " +
                 "priority = " + priority + ", " +
-                "todo = " + todo + ", " +
-                "state = " + state + ")";
+                "todoId = " + (todo != null ? todo.getId() : null) + ", " +
+                "stateId = " + (state != null ? state.getId() : null) + ")";
     }
 }
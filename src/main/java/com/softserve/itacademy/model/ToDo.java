@@ -1,11 +1,14 @@
 package com.softserve.itacademy.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.proxy.HibernateProxy;
 import org.springframework.format.annotation.DateTimeFormat;
 
-import javax.persistence.*;
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.NotNull;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
@@ -13,9 +16,17 @@ import java.util.Set;
 
 @Entity
 @Table(name = "todos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todos")
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = "ToDo.withOwner", attributeNodes = @NamedAttributeNode("owner")),
+        @NamedEntityGraph(name = "ToDo.withOwnerAndCollaborators",
+                attributeNodes = {@NamedAttributeNode("owner"), @NamedAttributeNode("collaborators")})
+})
 public class ToDo {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todos_id_seq", initialValue = 100, allocationSize = 50)
     private long id;
 
     @NotBlank(message = "The 'title' cannot be empty")
@@ -26,18 +37,29 @@ public class ToDo {
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private LocalDateTime createdAt;
 
-    @ManyToOne
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id")
     private User owner;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "todo")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todos.tasks")
     private List<Task> tasks;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todos.collaborators")
     @JoinTable(name = "todo_collaborator",
             joinColumns = @JoinColumn(name = "todo_id"),
             inverseJoinColumns = @JoinColumn(name = "collaborator_id"))
-    private List<User> collaborators;
+    @OrderBy("id")
+    private Set<User> collaborators;
 
     public ToDo() {
     }
@@ -66,6 +88,22 @@ public class ToDo {
         this.createdAt = createdAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public User getOwner() {
         return owner;
     }
@@ -82,11 +120,11 @@ public class ToDo {
         this.tasks = tasks;
     }
 
-    public List<User> getCollaborators() {
+    public Set<User> getCollaborators() {
         return collaborators;
     }
 
-    public void setCollaborators(List<User> users) {
+    public void setCollaborators(Set<User> users) {
         this.collaborators = users;
     }
 
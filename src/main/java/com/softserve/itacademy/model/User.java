@@ -1,14 +1,21 @@
 package com.softserve.itacademy.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.proxy.HibernateProxy;
 
-import javax.persistence.*;
-import javax.validation.constraints.Pattern;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Pattern;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NamedEntityGraph(name = "User.withRole", attributeNodes = @NamedAttributeNode("role"))
 public class User  {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,17 +40,22 @@ public class User  {
     @Column(name = "password", nullable = false)
     private String password;
 
-    @ManyToOne
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "role_id")
     private Role role;
 
-    @OneToMany(mappedBy = "owner", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "owner")
     private List<ToDo> myTodos;
 
-    @ManyToMany
-    @JoinTable(name = "todo_collaborator",
-        joinColumns = @JoinColumn(name = "collaborator_id"),
-        inverseJoinColumns = @JoinColumn(name = "todo_id"))
+    @ManyToMany(mappedBy = "collaborators")
     private List<ToDo> otherTodos;
 
     public User() {
@@ -89,6 +101,22 @@ public class User  {
         this.password = password;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public Role getRole() {
         return role;
     }
@@ -141,6 +169,6 @@ public class User  {
                 "lastName = " + lastName + ", " +
                 "email = " + email + ", " +
                 "password = " + password + ", " +
-                "role = " + role + ")";
+                "roleId = " + (role != null ? role.getId() : null) + ")";
     }
 }
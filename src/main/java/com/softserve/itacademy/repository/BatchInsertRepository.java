@@ -0,0 +1,35 @@
+package com.softserve.itacademy.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+
+@Repository
+public class BatchInsertRepository {
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public BatchInsertRepository(EntityManager entityManager,
+                                 @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    // Must run inside a transaction; the persistence context is cleared after every batch,
+    // so entities loaded earlier in the same transaction become detached.
+    public <T> int persistAll(Collection<T> entities) {
+        int count = 0;
+        for (T entity : entities) {
+            entityManager.persist(entity);
+            if (++count % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+}
@@ -1,9 +1,17 @@
 package com.softserve.itacademy.repository;
 
+import com.softserve.itacademy.dto.NamedCount;
 import com.softserve.itacademy.model.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+
+    @Query("select r.id as id, r.name as name, count(u) as count from Role r left join r.users u " +
+            "group by r.id, r.name order by r.id")
+    List<NamedCount> getUserCounts();
 }
@@ -2,9 +2,12 @@ package com.softserve.itacademy.repository;
 
 import com.softserve.itacademy.model.State;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
 
 @Repository
@@ -13,6 +16,15 @@ public interface StateRepository extends JpaRepository<State, Long> {
     @Query(value = "select * from states where name = ?1", nativeQuery = true)
     State getByName(String name);
 
-    @Query(value = "select * from states order by id", nativeQuery = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query("select s from State s order by s.id")
     List<State> getAll();
+
+    @Modifying
+    @Query("update State s set s.name = ?2 where s.id = ?1")
+    int update(long id, String name);
+
+    @Modifying
+    @Query("delete from State s where s.id = ?1")
+    int removeById(long id);
 }
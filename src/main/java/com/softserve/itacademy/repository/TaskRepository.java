@@ -1,15 +1,96 @@
 package com.softserve.itacademy.repository;
 
+import com.softserve.itacademy.dto.IndexedText;
+import com.softserve.itacademy.dto.TaskCountKey;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.State;
 import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
-    @Query(value = "select * from tasks where todo_id = ?1", nativeQuery = true)
+    // The graph shapes the select only when the row is not in the second-level cache.
+    @Override
+    @EntityGraph("Task.withState")
+    Optional<Task> findById(Long id);
+
+    @Query(value = "select * from tasks where todo_id = ?1 order by id", nativeQuery = true)
     List<Task> getByTodoId(long todoId);
+
+    @EntityGraph("Task.withState")
+    @Query("select t from Task t where t.todo.id = ?1 order by t.id")
+    List<Task> getWithStateByTodoId(long todoId);
+
+    @EntityGraph("Task.withState")
+    @Query("select t from Task t")
+    Slice<Task> getAll(Pageable pageable);
+
+    @EntityGraph("Task.withState")
+    @Query("select t from Task t where t.todo.id = ?1")
+    Slice<Task> getWithStateByTodoId(long todoId, Pageable pageable);
+
+    @EntityGraph("Task.withState")
+    @Query("select t from Task t where t.todo.id = ?1 and t.id > ?2 order by t.id asc")
+    List<Task> getByTodoIdAfterId(long todoId, long id, Pageable pageable);
+
+    @EntityGraph("Task.withState")
+    @Query("select t from Task t where t.todo.id = ?1 and t.id < ?2 order by t.id desc")
+    List<Task> getByTodoIdBeforeId(long todoId, long id, Pageable pageable);
+
+    // Matches nothing when the row has moved past the given version. Clears the persistence context,
+    // so a row read afterwards comes from the database.
+    @Modifying(clearAutomatically = true)
+    @Query("update Task t set t.name = ?2, t.priority = ?3, t.todo = ?4, t.state = ?5, " +
+            "t.version = t.version + 1, t.updatedAt = current_timestamp where t.id = ?1 and t.version = ?6")
+    int update(long id, String name, Priority priority, ToDo todo, State state, long version);
+
+    @Query("select t.id as id, t.todo.id as todoId, t.name as text from Task t where t.id > ?1 order by t.id")
+    List<IndexedText> getIndexedTextAfterId(long id, Pageable pageable);
+
+    // Reads past the second-level cache, so a version miss sees the row as it is now.
+    @Query(value = "select * from tasks where id = ?1", nativeQuery = true)
+    Optional<Task> getCurrentById(long id);
+
+    @Query(value = "select id as id, state_id as \"stateId\", priority as priority from tasks " +
+            "where todo_id = ?1 and id in (?2) for update", nativeQuery = true)
+    List<TaskCountKey> getCountKeysByTodoIdAndIdInForUpdate(long todoId, Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Task t set t.state = ?3, t.version = t.version + 1, t.updatedAt = current_timestamp " +
+            "where t.todo.id = ?1 and t.id in ?2")
+    int updateState(long todoId, Collection<Long> ids, State state);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Task t set t.priority = ?3, t.version = t.version + 1, t.updatedAt = current_timestamp " +
+            "where t.todo.id = ?1 and t.id in ?2")
+    int updatePriority(long todoId, Collection<Long> ids, Priority priority);
+
+    @Modifying
+    @Query("delete from Task t where t.todo.id = ?1 and t.id in ?2")
+    int removeByTodoIdAndIdIn(long todoId, Collection<Long> ids);
+
+    // Matches nothing when the row has moved past the given version, like update.
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Task t where t.id = ?1 and t.version = ?2")
+    int removeByIdAndVersion(long id, long version);
+
+    @Modifying
+    @Query("delete from Task t where t.todo.id = ?1")
+    int removeByTodoId(long todoId);
+
+    @Modifying
+    @Query("delete from Task t where t.todo.id in (select td.id from ToDo td where td.owner.id = ?1)")
+    int removeByTodoOwnerId(long ownerId);
 }
@@ -0,0 +1,10 @@
+package com.softserve.itacademy.repository;
+
+public interface ToDoCollaboratorRepository {
+
+    int addCollaborator(long todoId, long userId);
+
+    int removeCollaborator(long todoId, long userId);
+
+    int removeCollaborators(long todoId);
+}
@@ -0,0 +1,51 @@
+package com.softserve.itacademy.repository;
+
+import com.softserve.itacademy.model.User;
+import org.hibernate.query.NativeQuery;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+// Plain SQL over the join table. Hibernate evicts every second-level cache region for native SQL that declares no
+// query space; these statements name todo_collaborator and the User entity, whose table is how Hibernate reaches the
+// cached collaborator collections, so the todos and tasks regions stay warm.
+public class ToDoCollaboratorRepositoryImpl implements ToDoCollaboratorRepository {
+    private final EntityManager entityManager;
+
+    public ToDoCollaboratorRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int addCollaborator(long todoId, long userId) {
+        return query("insert into todo_collaborator (todo_id, collaborator_id) " +
+                "select t.id, u.id from todos t, users u where t.id = ?1 and u.id = ?2 and not exists " +
+                "(select 1 from todo_collaborator tc where tc.todo_id = ?1 and tc.collaborator_id = ?2)")
+                .setParameter(1, todoId)
+                .setParameter(2, userId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int removeCollaborator(long todoId, long userId) {
+        return query("delete from todo_collaborator where todo_id = ?1 and collaborator_id = ?2")
+                .setParameter(1, todoId)
+                .setParameter(2, userId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int removeCollaborators(long todoId) {
+        return query("delete from todo_collaborator where todo_id = ?1")
+                .setParameter(1, todoId)
+                .executeUpdate();
+    }
+
+    private Query query(String sql) {
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("todo_collaborator")
+                .addSynchronizedEntityClass(User.class);
+        return query;
+    }
+}
@@ -1,17 +1,148 @@
 package com.softserve.itacademy.repository;
 
+import com.softserve.itacademy.dto.IndexedText;
+import com.softserve.itacademy.dto.NamedCount;
+import com.softserve.itacademy.dto.TableStamp;
+import com.softserve.itacademy.dto.TodoSummary;
 import com.softserve.itacademy.model.ToDo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ToDoRepository extends JpaRepository<ToDo, Long> {
+public interface ToDoRepository extends JpaRepository<ToDo, Long>, ToDoCollaboratorRepository {
+    // Owned todos plus todos shared with the user; each branch is served by its own index and the
+    // owner check in the second one keeps them disjoint, so no DISTINCT sort is needed. The keyset predicate, the
+    // order and the limit go into both branches, so each reads at most one page; the merged rows are ordered and
+    // limited once more.
+    String SUMMARIES_OF = "select s.id as id, s.title as title, s.created_at as \"createdAt\", " +
+            "s.owner_id as \"ownerId\", s.first_name as \"ownerFirstName\", s.last_name as \"ownerLastName\", " +
+            "s.version as \"version\" from (";
+    String OWNED_BY_USER = "(select t.id, t.title, t.created_at, t.owner_id, u.first_name, u.last_name, t.version " +
+            "from todos t join users u on u.id = t.owner_id where t.owner_id = ?1 ";
+    String SHARED_WITH_USER = "(select t.id, t.title, t.created_at, t.owner_id, u.first_name, u.last_name, " +
+            "t.version from todo_collaborator tc join todos t on t.id = tc.todo_id join users u on u.id = t.owner_id " +
+            "where tc.collaborator_id = ?1 and t.owner_id <> ?1 ";
 
-    @Query(value = "select id, title, created_at, owner_id from todos where owner_id = ?1 union " +
-            "select id, title, created_at, owner_id from todos inner join todo_collaborator on id = todo_id and " +
-            "collaborator_id = ?1", nativeQuery = true)
+    // Tasks of the todo, the todo row, its collaborator ids, its task counters and the users offered as
+    // collaborators, i.e. everyone but the owner, whose rows also give the collaborators' names: what the tasks page
+    // renders. UNION ALL keeps no order of its own, so the parts are numbered and sorted for a stable tag.
+    String TASKS_VIEW_STAMP = "select 1 as \"part\", count(*) as \"total\", coalesce(sum(version), 0) as \"versions\", " +
+            "max(updated_at) as \"updatedAt\" from tasks where todo_id = ?1 " +
+            "union all select 2, count(*), coalesce(sum(version), 0), max(updated_at) from todos where id = ?1 " +
+            "union all select 3, count(*), coalesce(sum(collaborator_id), 0), cast(null as timestamp) " +
+            "from todo_collaborator where todo_id = ?1 " +
+            "union all select 4, count(*), coalesce(sum(version), 0), cast(null as timestamp) " +
+            "from todo_stats where todo_id = ?1 " +
+            "union all select 5, count(*), coalesce(sum(version), 0), max(updated_at) from users " +
+            "where id <> (select owner_id from todos where id = ?1) " +
+            "order by 1";
+
+    // Owned and shared todos (ids are summed in so a swapped membership changes the stamp), their task counters,
+    // then the user and the owners of the shared todos, looked up by primary key. Numbered and sorted like
+    // TASKS_VIEW_STAMP.
+    String USER_TODOS_STAMP = "select 1 as \"part\", count(*) as \"total\", " +
+            "coalesce(sum(id + version), 0) as \"versions\", max(updated_at) as \"updatedAt\" " +
+            "from todos where owner_id = ?1 " +
+            "union all select 2, count(*), coalesce(sum(t.id + t.version), 0), max(t.updated_at) " +
+            "from todo_collaborator tc join todos t on t.id = tc.todo_id " +
+            "where tc.collaborator_id = ?1 and t.owner_id <> ?1 " +
+            "union all select 3, count(*), coalesce(sum(ts.version), 0), cast(null as timestamp) from todo_stats ts " +
+            "where ts.todo_id in (select id from todos where owner_id = ?1 " +
+            "union all select todo_id from todo_collaborator where collaborator_id = ?1) " +
+            "union all select 4, count(*), coalesce(sum(u.version), 0), max(u.updated_at) from users u " +
+            "where u.id in (select cast(?1 as bigint) union select t.owner_id from todo_collaborator tc " +
+            "join todos t on t.id = tc.todo_id where tc.collaborator_id = ?1) " +
+            "order by 1";
+
+    @EntityGraph("ToDo.withOwner")
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query("select t from ToDo t where t.owner.id = ?1 or t.id in " +
+            "(select ct.id from ToDo ct join ct.collaborators c where c.id = ?1) order by t.id")
     List<ToDo> getByUserId(long userId);
+
+    @Query("select t.id from ToDo t where t.owner.id = ?1 or t.id in " +
+            "(select ct.id from ToDo ct join ct.collaborators c where c.id = ?1)")
+    List<Long> getIdsByUserId(long userId);
+
+    @Query("select t.id from ToDo t where t.owner.id = ?1")
+    List<Long> getIdsByOwnerId(long ownerId);
+
+    @Query("select t.id as id, t.id as todoId, t.title as text from ToDo t where t.id > ?1 order by t.id")
+    List<IndexedText> getIndexedTextAfterId(long id, Pageable pageable);
+
+    @Query("select u.id as id, concat(u.firstName, ' ', u.lastName) as name, count(t) as count " +
+            "from ToDo t join t.owner u group by u.id, u.firstName, u.lastName order by count(t) desc, u.id")
+    List<NamedCount> getTopOwners(Pageable pageable);
+
+    @Query("select t.id as id, t.title as name, count(c) as count from ToDo t join t.collaborators c " +
+            "group by t.id, t.title order by count(c) desc, t.id")
+    List<NamedCount> getMostShared(Pageable pageable);
+
+    // The graph shapes the select only when the row is not in the second-level cache.
+    @Override
+    @EntityGraph("ToDo.withOwnerAndCollaborators")
+    Optional<ToDo> findById(Long id);
+
+    @EntityGraph("ToDo.withOwnerAndCollaborators")
+    @Query("select distinct t from ToDo t where t.id = ?1")
+    Optional<ToDo> getWithOwnerAndCollaboratorsById(long id);
+
+    @EntityGraph("ToDo.withOwner")
+    @Query("select t from ToDo t")
+    Slice<ToDo> getAll(Pageable pageable);
+
+    @EntityGraph("ToDo.withOwner")
+    @Query("select t from ToDo t where t.owner.id = ?1 or t.id in " +
+            "(select ct.id from ToDo ct join ct.collaborators c where c.id = ?1)")
+    Slice<ToDo> getByUserId(long userId, Pageable pageable);
+
+    @Query(value = SUMMARIES_OF +
+            OWNED_BY_USER + "order by t.created_at asc, t.id asc limit ?2) union all " +
+            SHARED_WITH_USER + "order by t.created_at asc, t.id asc limit ?2) " +
+            ") s order by s.created_at asc, s.id asc limit ?2", nativeQuery = true)
+    List<TodoSummary> getSummariesByUserId(long userId, int limit);
+
+    @Query(value = SUMMARIES_OF +
+            OWNED_BY_USER + "and (t.created_at, t.id) > (?2, ?3) order by t.created_at asc, t.id asc limit ?4) " +
+            "union all " +
+            SHARED_WITH_USER + "and (t.created_at, t.id) > (?2, ?3) order by t.created_at asc, t.id asc limit ?4) " +
+            ") s order by s.created_at asc, s.id asc limit ?4", nativeQuery = true)
+    List<TodoSummary> getSummariesByUserIdAfter(long userId, LocalDateTime createdAt, long id, int limit);
+
+    @Query(value = SUMMARIES_OF +
+            OWNED_BY_USER + "and (t.created_at, t.id) < (?2, ?3) order by t.created_at desc, t.id desc limit ?4) " +
+            "union all " +
+            SHARED_WITH_USER + "and (t.created_at, t.id) < (?2, ?3) order by t.created_at desc, t.id desc limit ?4) " +
+            ") s order by s.created_at desc, s.id desc limit ?4", nativeQuery = true)
+    List<TodoSummary> getSummariesByUserIdBefore(long userId, LocalDateTime createdAt, long id, int limit);
+
+    @Modifying
+    @Query("update ToDo t set t.title = ?2, t.createdAt = ?3, t.version = t.version + 1, " +
+            "t.updatedAt = current_timestamp where t.id = ?1 and t.version = ?4")
+    int update(long id, String title, LocalDateTime createdAt, long version);
+
+    @Query(value = TASKS_VIEW_STAMP, nativeQuery = true)
+    List<TableStamp> getTasksViewStamp(long id);
+
+    @Query(value = USER_TODOS_STAMP, nativeQuery = true)
+    List<TableStamp> getUserToDosStamp(long userId);
+
+    @Modifying
+    @Query("delete from ToDo t where t.id = ?1")
+    int removeById(long id);
+
+    @Modifying
+    @Query("delete from ToDo t where t.owner.id = ?1")
+    int removeByOwnerId(long ownerId);
 }
@@ -0,0 +1,156 @@
+package com.softserve.itacademy.repository;
+
+import com.softserve.itacademy.dto.TodoStats;
+import com.softserve.itacademy.model.Priority;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// The counts are plain SQL over todo_stats. Declaring the table as the only query space keeps these statements from
+// evicting the second-level cache regions of the mapped entities, which Hibernate does for unknown native SQL.
+@Repository
+public class TodoStatsRepository {
+    private static final String PRIORITIES = priorities();
+    private static final String PRIORITY_ORDER = priorityOrder();
+    private static final String COUNTED_TASKS = "(select count(*) from tasks k where k.todo_id = ts.todo_id " +
+            "and k.state_id = ts.state_id and k.priority = ts.priority)";
+
+    private final EntityManager entityManager;
+
+    public TodoStatsRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public int addTaskCount(long todoId, long stateId, Priority priority, long delta) {
+        return query("update todo_stats set task_count = task_count + ?4, version = version + 1 " +
+                "where todo_id = ?1 and state_id = ?2 and priority = ?3")
+                .setParameter(1, todoId)
+                .setParameter(2, stateId)
+                .setParameter(3, priority.name())
+                .setParameter(4, delta)
+                .executeUpdate();
+    }
+
+    // The new rows reference the todos, so pending inserts are flushed first.
+    public int createForToDos(Collection<Long> todoIds) {
+        if (todoIds.isEmpty()) {
+            return 0;
+        }
+        entityManager.flush();
+        return query("insert into todo_stats (todo_id, state_id, priority) " +
+                "select t.id, s.id, p.priority from todos t cross join states s cross join " + PRIORITIES +
+                " where t.id in (?1)")
+                .setParameter(1, todoIds)
+                .executeUpdate();
+    }
+
+    public int createForState(long stateId) {
+        entityManager.flush();
+        return query("insert into todo_stats (todo_id, state_id, priority) " +
+                "select t.id, s.id, p.priority from todos t cross join states s cross join " + PRIORITIES +
+                " where s.id = ?1")
+                .setParameter(1, stateId)
+                .executeUpdate();
+    }
+
+    // One row per state and priority of every todo, states in id order.
+    @SuppressWarnings("unchecked")
+    public Map<Long, TodoStats> getByTodoIds(Collection<Long> todoIds) {
+        Map<Long, TodoStats> stats = new HashMap<>();
+        for (Long todoId : todoIds) {
+            stats.put(todoId, new TodoStats());
+        }
+        if (todoIds.isEmpty()) {
+            return stats;
+        }
+        List<Object[]> rows = query("select ts.todo_id, s.name, ts.priority, ts.task_count from todo_stats ts " +
+                "join states s on s.id = ts.state_id where ts.todo_id in (?1) order by ts.todo_id, s.id, ts.priority")
+                .setParameter(1, todoIds)
+                .getResultList();
+        for (Object[] row : rows) {
+            stats.get(((Number) row[0]).longValue())
+                    .add((String) row[1], Priority.valueOf((String) row[2]), ((Number) row[3]).longValue());
+        }
+        return stats;
+    }
+
+    // The counters of all todos summed per state and priority.
+    @SuppressWarnings("unchecked")
+    public TodoStats getTotals() {
+        TodoStats stats = new TodoStats();
+        List<Object[]> rows = query("select s.name, ts.priority, sum(ts.task_count) from todo_stats ts " +
+                "join states s on s.id = ts.state_id group by s.id, s.name, ts.priority order by s.id, ts.priority")
+                .getResultList();
+        for (Object[] row : rows) {
+            stats.add((String) row[0], Priority.valueOf((String) row[1]), ((Number) row[2]).longValue());
+        }
+        return stats;
+    }
+
+    // Adds the rows missing for any todo and state.
+    public int createMissing() {
+        return query("insert into todo_stats (todo_id, state_id, priority) " +
+                "select t.id, s.id, p.priority from todos t cross join states s cross join " + PRIORITIES +
+                " where not exists (select 1 from todo_stats e " +
+                "where e.todo_id = t.id and e.state_id = s.id and e.priority = p.priority)")
+                .executeUpdate();
+    }
+
+    // Todos with a counter that differs from the tasks table. Nothing is locked, so a todo listed here may be
+    // correct again by the time it is recounted.
+    @SuppressWarnings("unchecked")
+    public List<Long> getOutOfDateTodoIds() {
+        List<Number> ids = query("select distinct ts.todo_id from todo_stats ts where ts.task_count <> " +
+                COUNTED_TASKS + " order by ts.todo_id")
+                .getResultList();
+        List<Long> todoIds = new ArrayList<>(ids.size());
+        for (Number id : ids) {
+            todoIds.add(id.longValue());
+        }
+        return todoIds;
+    }
+
+    // Locks the todo's counters in the order TaskCountChanges writes them, then counts its tasks. A writer that
+    // already changed a counter has committed by the time the lock is granted, so the count includes its tasks; one
+    // that has not changed it yet waits and adds its delta to the recounted value.
+    public int recount(long todoId) {
+        query("select ts.todo_id from todo_stats ts where ts.todo_id = ?1 " +
+                "order by ts.state_id, " + PRIORITY_ORDER + " for update")
+                .setParameter(1, todoId)
+                .getResultList();
+        return query("update todo_stats ts set task_count = " + COUNTED_TASKS + ", version = version + 1 " +
+                "where ts.todo_id = ?1 and ts.task_count <> " + COUNTED_TASKS)
+                .setParameter(1, todoId)
+                .executeUpdate();
+    }
+
+    private Query query(String sql) {
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace("todo_stats");
+        return query;
+    }
+
+    private static String priorities() {
+        StringBuilder sql = new StringBuilder("(");
+        for (Priority priority : Priority.values()) {
+            sql.append(sql.length() == 1 ? "select '" + priority.name() + "' as priority"
+                    : " union all select '" + priority.name() + "'");
+        }
+        return sql.append(") p").toString();
+    }
+
+    private static String priorityOrder() {
+        StringBuilder sql = new StringBuilder("case ts.priority");
+        for (Priority priority : Priority.values()) {
+            sql.append(" when '").append(priority.name()).append("' then ").append(priority.ordinal());
+        }
+        return sql.append(" end").toString();
+    }
+}
@@ -1,13 +1,46 @@
 package com.softserve.itacademy.repository;
 
+import com.softserve.itacademy.dto.TableStamp;
 import com.softserve.itacademy.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // The graph shapes the select only when the row is not in the second-level cache.
+    @Override
+    @EntityGraph("User.withRole")
+    Optional<User> findById(Long id);
+
     @Query(value = "select * from users where email =?1", nativeQuery = true)
     User getUserByEmail(String email);
+
+    @Query("select u from User u where u.id <> ?1 order by u.id")
+    List<User> getAllExceptId(long id);
+
+    @Query("select u from User u")
+    Slice<User> getAll(Pageable pageable);
+
+    @Query("select u from User u where u.id > ?1 order by u.id asc")
+    List<User> getAfterId(long id, Pageable pageable);
+
+    @Query("select u from User u where u.id < ?1 order by u.id desc")
+    List<User> getBeforeId(long id, Pageable pageable);
+
+    @Modifying
+    @Query("delete from User u where u.id = ?1")
+    int removeById(long id);
+
+    @Query(value = "select count(*) as \"total\", coalesce(sum(version), 0) as \"versions\", " +
+            "max(updated_at) as \"updatedAt\" from users", nativeQuery = true)
+    List<TableStamp> getStamp();
 }
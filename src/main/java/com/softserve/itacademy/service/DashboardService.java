@@ -0,0 +1,7 @@
+package com.softserve.itacademy.service;
+
+import com.softserve.itacademy.dto.Dashboard;
+
+public interface DashboardService {
+    Dashboard getDashboard();
+}
@@ -0,0 +1,18 @@
+package com.softserve.itacademy.service;
+
+import com.softserve.itacademy.dto.SearchHit;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SearchService {
+    List<SearchHit> search(long userId, String text, int limit);
+
+    void indexTasks(Collection<Task> tasks);
+    void indexToDos(Collection<ToDo> todos);
+    void removeTasks(Collection<Long> ids);
+    void removeToDos(Collection<Long> ids);
+    int reindex();
+}
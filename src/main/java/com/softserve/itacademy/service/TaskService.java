@@ -1,15 +1,32 @@
 package com.softserve.itacademy.service;
 
+import com.softserve.itacademy.dto.BatchResult;
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.State;
 import com.softserve.itacademy.model.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskService {
     Task create(Task task);
+    List<Task> createAll(List<Task> tasks);
     Task readById(long id);
     Task update(Task task);
+    Task update(Task original, Task task);
     void delete(long id);
 
+    List<BatchResult> updateState(long todoId, Collection<Long> ids, State state);
+    List<BatchResult> updatePriority(long todoId, Collection<Long> ids, Priority priority);
+    List<BatchResult> deleteAll(long todoId, Collection<Long> ids);
+
     List<Task> getAll();
     List<Task> getByTodoId(long todoId);
+
+    Slice<Task> getAll(Pageable pageable);
+    Slice<Task> getByTodoId(long todoId, Pageable pageable);
+    KeysetPage<Task> getPageByTodoId(long todoId, Long after, Long before, int size);
 }
@@ -1,15 +1,34 @@
 package com.softserve.itacademy.service;
 
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.dto.ToDoTasksView;
+import com.softserve.itacademy.dto.TodoSummary;
+import com.softserve.itacademy.dto.VersionStamp;
 import com.softserve.itacademy.model.ToDo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 public interface ToDoService {
     ToDo create(ToDo todo);
+    List<ToDo> createAll(List<ToDo> todos);
     ToDo readById(long id);
     ToDo update(ToDo todo);
     void delete(long id);
 
     List<ToDo> getAll();
     List<ToDo> getByUserId(long userId);
+
+    Slice<ToDo> getAll(Pageable pageable);
+    Slice<ToDo> getByUserId(long userId, Pageable pageable);
+    KeysetPage<TodoSummary> getPageByUserId(long userId, String after, String before, int size);
+
+    void addCollaborator(long todoId, long userId);
+    void removeCollaborator(long todoId, long userId);
+
+    ToDoTasksView readTasksView(long id, Long after, Long before, int size);
+
+    VersionStamp getTasksViewStamp(long id);
+    VersionStamp getUserToDosStamp(long userId);
 }
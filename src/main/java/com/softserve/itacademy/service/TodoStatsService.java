@@ -0,0 +1,11 @@
+package com.softserve.itacademy.service;
+
+import com.softserve.itacademy.dto.TodoStats;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface TodoStatsService {
+    Map<Long, TodoStats> getByTodoIds(Collection<Long> todoIds);
+    int reconcile();
+}
@@ -1,6 +1,10 @@
 package com.softserve.itacademy.service;
 
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.dto.VersionStamp;
 import com.softserve.itacademy.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -11,4 +15,8 @@ public interface UserService {
     void delete(long id);
     List<User> getAll();
 
+    Slice<User> getAll(Pageable pageable);
+    KeysetPage<User> getPage(Long after, Long before, int size);
+
+    VersionStamp getAllStamp();
 }
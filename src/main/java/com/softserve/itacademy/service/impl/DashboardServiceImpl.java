@@ -0,0 +1,150 @@
+package com.softserve.itacademy.service.impl;
+
+import com.softserve.itacademy.dto.Dashboard;
+import com.softserve.itacademy.dto.NamedCount;
+import com.softserve.itacademy.dto.TodoStats;
+import com.softserve.itacademy.repository.RoleRepository;
+import com.softserve.itacademy.repository.ToDoRepository;
+import com.softserve.itacademy.repository.TodoStatsRepository;
+import com.softserve.itacademy.repository.UserRepository;
+import com.softserve.itacademy.service.DashboardService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// The aggregates are independent of each other, so they run side by side, each in its own read-only transaction.
+// The executor's thread count bounds how many pool connections one fan-out can hold; its threads are virtual since
+// a worker mostly waits on JDBC. Tasks go through the application's TaskDecorator, if any, so per-request metrics
+// follow them onto the workers. A fan-out that does not finish within the timeout fails instead of holding the
+// caller; the transaction timeout cancels the queries still running.
+@Service
+public class DashboardServiceImpl implements DashboardService {
+    private static final int TOP = 10;
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final ToDoRepository todoRepository;
+    private final TodoStatsRepository todoStatsRepository;
+    private final TransactionTemplate readOnly;
+    private final long ttlNanos;
+    private final Duration timeout;
+    private final ExecutorService executor;
+    private final Executor decoratedExecutor;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public DashboardServiceImpl(UserRepository userRepository, RoleRepository roleRepository,
+                                ToDoRepository todoRepository, TodoStatsRepository todoStatsRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${todolist.dashboard.ttl:30s}") Duration ttl,
+                                @Value("${todolist.dashboard.timeout:10s}") Duration timeout,
+                                @Value("${todolist.dashboard.threads:4}") int threads,
+                                ObjectProvider<TaskDecorator> taskDecorator) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.todoRepository = todoRepository;
+        this.todoStatsRepository = todoStatsRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readOnly.setTimeout((int) Math.max(1, timeout.toSeconds()));
+        this.ttlNanos = ttl.toNanos();
+        this.timeout = timeout;
+        this.executor = Executors.newFixedThreadPool(threads, Thread.ofVirtual().name("dashboard-", 0).factory());
+        TaskDecorator decorator = taskDecorator.getIfUnique(() -> task -> task);
+        this.decoratedExecutor = task -> executor.execute(decorator.decorate(task));
+    }
+
+    // One caller rebuilds an expired snapshot while the others keep getting the expired one; callers only wait when
+    // there is no snapshot yet. The database sees at most one fan-out per interval however many requests arrive.
+    @Override
+    public Dashboard getDashboard() {
+        Snapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            return current.dashboard;
+        }
+        if (current == null) {
+            refreshLock.lock();
+        } else if (!refreshLock.tryLock()) {
+            return current.dashboard;
+        }
+        try {
+            current = snapshot;
+            if (current == null || current.isExpired()) {
+                current = new Snapshot(load(), System.nanoTime() + ttlNanos);
+                snapshot = current;
+            }
+            return current.dashboard;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private Dashboard load() {
+        PageRequest top = PageRequest.of(0, TOP);
+        CompletableFuture<Long> users = query(userRepository::count);
+        CompletableFuture<List<NamedCount>> usersByRole = query(roleRepository::getUserCounts);
+        CompletableFuture<Long> todos = query(todoRepository::count);
+        CompletableFuture<List<NamedCount>> topOwners = query(() -> todoRepository.getTopOwners(top));
+        CompletableFuture<TodoStats> tasks = query(todoStatsRepository::getTotals);
+        CompletableFuture<List<NamedCount>> mostShared = query(() -> todoRepository.getMostShared(top));
+        try {
+            return CompletableFuture.allOf(users, usersByRole, todos, topOwners, tasks, mostShared)
+                    .thenApply(done -> new Dashboard(users.join(), usersByRole.join(), todos.join(),
+                            topOwners.join(), tasks.join(), mostShared.join(), LocalDateTime.now()))
+                    .get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("The dashboard did not load within " + timeout, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the dashboard", e);
+        }
+    }
+
+    private <T> CompletableFuture<T> query(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnly.execute(status -> query.get()), decoratedExecutor);
+    }
+
+    private static final class Snapshot {
+        private final Dashboard dashboard;
+        private final long expiresAt;
+
+        private Snapshot(Dashboard dashboard, long expiresAt) {
+            this.dashboard = dashboard;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
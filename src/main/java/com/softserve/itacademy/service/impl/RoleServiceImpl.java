@@ -1,13 +1,15 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.cache.ReferenceCache;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
 import com.softserve.itacademy.model.Role;
 import com.softserve.itacademy.repository.RoleRepository;
 import com.softserve.itacademy.service.RoleService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
-import java.util.ArrayList;
+import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,50 +17,73 @@ import java.util.Optional;
 public class RoleServiceImpl implements RoleService {
 
     private RoleRepository roleRepository;
+    private ReferenceCache<Role> roleCache;
 
-    public RoleServiceImpl(RoleRepository roleRepository) {
+    public RoleServiceImpl(RoleRepository roleRepository, ReferenceCache<Role> roleCache) {
         this.roleRepository = roleRepository;
+        this.roleCache = roleCache;
     }
 
     @Override
+    @Transactional
     public Role create(Role role) {
-        try {
-            return roleRepository.save(role);
-        } catch (IllegalArgumentException e) {
+        if (role == null) {
             throw new NullEntityReferenceException("Role cannot be 'null'");
         }
+        Role saved = roleRepository.save(role);
+        roleCache.invalidateAfterCommit();
+        return saved;
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Role readById(long id) {
-        Optional<Role> optional = roleRepository.findById(id);
+        Optional<Role> optional = roleCache.getById(id);
+        if (optional.isPresent()) {
             return optional.get();
+        }
+        throw new EntityNotFoundException("Role with id " + id + " not found");
     }
 
     @Override
+    @Transactional
     public Role update(Role role) {
         if (role != null) {
             Role oldRole = readById(role.getId());
             if (oldRole != null) {
-                return roleRepository.save(role);
+                Role updated = roleRepository.save(role);
+                roleCache.invalidateAfterCommit();
+                return updated;
             }
         }
         throw new NullEntityReferenceException("Role cannot be 'null'");
     }
 
     @Override
+    @Transactional
     public void delete(long id) {
         Role role = readById(id);
         if (role != null) {
             roleRepository.delete(role);
+            roleCache.invalidateAfterCommit();
         } else {
             throw new NullEntityReferenceException("Role cannot be 'null'");
         }
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Role getByName(String name) {
+        Optional<Role> optional = roleCache.getByName(name);
+        if (optional.isPresent()) {
+            return optional.get();
+        }
+        throw new EntityNotFoundException("Role with name '" + name + "' not found");
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<Role> getAll() {
-        List<Role> roles = roleRepository.findAll();
-        return roles.isEmpty() ? new ArrayList<>() : roles;
+        return roleCache.getAll();
     }
 }
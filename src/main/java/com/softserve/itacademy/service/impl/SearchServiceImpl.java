@@ -0,0 +1,312 @@
+package com.softserve.itacademy.service.impl;
+
+import com.softserve.itacademy.dto.IndexedText;
+import com.softserve.itacademy.dto.SearchHit;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.repository.TaskRepository;
+import com.softserve.itacademy.repository.ToDoRepository;
+import com.softserve.itacademy.service.SearchService;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// One document per task and per todo. Every document carries the id of the todo it belongs to (a todo's is its
+// own id), so deleting a todo drops its tasks with it and access is checked against the user's todo ids at query
+// time, which keeps sharing changes out of the index. Writers never refresh the searcher themselves: a background
+// thread reopens it, and a search waits for the writes made before it so a user finds what they just saved.
+@Service
+public class SearchServiceImpl implements SearchService, SmartInitializingSingleton {
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String TODO_ID = "todoId";
+    private static final String TEXT = "text";
+    private static final int REINDEX_BATCH = 10_000;
+    private static final double MAX_STALE_SEC = 1.0;
+    private static final double MIN_STALE_SEC = 0.025;
+    private static final int MAX_WAIT_MS = 1_000;
+
+    private final TaskRepository taskRepository;
+    private final ToDoRepository todoRepository;
+    private final boolean rebuildOnStartup;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private final AtomicLong lastWrite = new AtomicLong(-1);
+
+    public SearchServiceImpl(TaskRepository taskRepository, ToDoRepository todoRepository,
+                             @Value("${todolist.search.index-dir:}") String indexDir,
+                             @Value("${todolist.search.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.taskRepository = taskRepository;
+        this.todoRepository = todoRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+        try {
+            directory = indexDir.isEmpty() ? new ByteBuffersDirectory() : FSDirectory.open(Paths.get(indexDir));
+            writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open search index '" + indexDir + "'", e);
+        }
+        reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, MAX_STALE_SEC, MIN_STALE_SEC);
+        reopenThread.setName("search-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SearchHit> search(long userId, String text, int limit) {
+        List<SearchHit> hits = new ArrayList<>();
+        Query query = parse(text);
+        if (query == null) {
+            return hits;
+        }
+        List<BytesRef> todoIds = new ArrayList<>();
+        for (Long todoId : todoRepository.getIdsByUserId(userId)) {
+            todoIds.add(new BytesRef(todoId.toString()));
+        }
+        if (todoIds.isEmpty()) {
+            return hits;
+        }
+        Query scoped = new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.MUST)
+                .add(new TermInSetQuery(TODO_ID, todoIds), BooleanClause.Occur.FILTER)
+                .build();
+        try {
+            reopenThread.waitForGeneration(lastWrite.get(), MAX_WAIT_MS);
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                for (ScoreDoc scoreDoc : searcher.search(scoped, limit).scoreDocs) {
+                    Document doc = searcher.doc(scoreDoc.doc);
+                    hits.add(new SearchHit(SearchHit.Type.valueOf(doc.get(TYPE)), Long.parseLong(doc.get(ID)),
+                            Long.parseLong(doc.get(TODO_ID)), doc.get(TEXT)));
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return hits;
+    }
+
+    @Override
+    public void indexTasks(Collection<Task> tasks) {
+        List<Document> docs = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            docs.add(document(SearchHit.Type.TASK, task.getId(), task.getTodo().getId(), task.getName()));
+        }
+        afterCommit(() -> write(docs));
+    }
+
+    @Override
+    public void indexToDos(Collection<ToDo> todos) {
+        List<Document> docs = new ArrayList<>(todos.size());
+        for (ToDo todo : todos) {
+            docs.add(document(SearchHit.Type.TODO, todo.getId(), todo.getId(), todo.getTitle()));
+        }
+        afterCommit(() -> write(docs));
+    }
+
+    @Override
+    public void removeTasks(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Term[] terms = new Term[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            terms[i++] = new Term(KEY, key(SearchHit.Type.TASK, id));
+        }
+        afterCommit(() -> delete(terms));
+    }
+
+    @Override
+    public void removeToDos(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Term[] terms = new Term[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            terms[i++] = new Term(TODO_ID, id.toString());
+        }
+        afterCommit(() -> delete(terms));
+    }
+
+    // Documents are replaced by key instead of being dropped first, so a write indexed while this runs is kept.
+    @Override
+    @Transactional(readOnly = true)
+    public int reindex() {
+        try {
+            int count = reindex(SearchHit.Type.TODO, todoRepository::getIndexedTextAfterId)
+                    + reindex(SearchHit.Type.TASK, taskRepository::getIndexedTextAfterId);
+            writer.commit();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Index writes made while the application ran are not committed to disk, so by default the index is
+    // rebuilt from the database on every start rather than trusted after a crash. This runs once every bean is
+    // created and before the web server starts, so no request writes to the index while it is emptied.
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            if (rebuildOnStartup || writer.getDocStats().numDocs == 0) {
+                writer.deleteAll();
+                reindex();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private int reindex(SearchHit.Type type, ReindexBatch batch) throws IOException {
+        Pageable limit = PageRequest.of(0, REINDEX_BATCH);
+        int count = 0;
+        long after = 0;
+        List<IndexedText> rows;
+        do {
+            rows = batch.after(after, limit);
+            for (IndexedText row : rows) {
+                write(document(type, row.getId(), row.getTodoId(), row.getText()));
+                after = row.getId();
+            }
+            count += rows.size();
+        } while (rows.size() == REINDEX_BATCH);
+        return count;
+    }
+
+    private interface ReindexBatch {
+        List<IndexedText> after(long id, Pageable pageable);
+    }
+
+    // Every word of the input has to match the start of a word in the text, so results narrow while typing.
+    private Query parse(String text) {
+        if (text == null) {
+            return null;
+        }
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        int terms = 0;
+        try (TokenStream stream = analyzer.tokenStream(TEXT, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                builder.add(new PrefixQuery(new Term(TEXT, term.toString())), BooleanClause.Occur.MUST);
+                terms++;
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms == 0 ? null : builder.build();
+    }
+
+    private void write(List<Document> docs) {
+        try {
+            for (Document doc : docs) {
+                write(doc);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(Document doc) throws IOException {
+        written(writer.updateDocument(new Term(KEY, doc.get(KEY)), doc));
+    }
+
+    private void delete(Term... terms) {
+        try {
+            written(writer.deleteDocuments(terms));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void written(long generation) {
+        lastWrite.accumulateAndGet(generation, Math::max);
+    }
+
+    // The index only ever reflects committed rows; outside a transaction the change is applied right away.
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static Document document(SearchHit.Type type, long id, long todoId, String text) {
+        Document doc = new Document();
+        doc.add(new StringField(KEY, key(type, id), Field.Store.YES));
+        doc.add(new StringField(TYPE, type.name(), Field.Store.YES));
+        doc.add(new StoredField(ID, Long.toString(id)));
+        doc.add(new StringField(TODO_ID, Long.toString(todoId), Field.Store.YES));
+        doc.add(new TextField(TEXT, text != null ? text : "", Field.Store.YES));
+        return doc;
+    }
+
+    private static String key(SearchHit.Type type, long id) {
+        return type.name() + ":" + id;
+    }
+}
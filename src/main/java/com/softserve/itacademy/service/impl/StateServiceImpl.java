@@ -1,36 +1,48 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.cache.ReferenceCache;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
 import com.softserve.itacademy.model.State;
 import com.softserve.itacademy.repository.StateRepository;
+import com.softserve.itacademy.repository.TodoStatsRepository;
 import com.softserve.itacademy.service.StateService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
-import java.util.ArrayList;
+import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class StateServiceImpl implements StateService {
     private StateRepository stateRepository;
+    private ReferenceCache<State> stateCache;
+    private TodoStatsRepository todoStatsRepository;
 
-    public StateServiceImpl(StateRepository stateRepository) {
+    public StateServiceImpl(StateRepository stateRepository, ReferenceCache<State> stateCache,
+                            TodoStatsRepository todoStatsRepository) {
         this.stateRepository = stateRepository;
+        this.stateCache = stateCache;
+        this.todoStatsRepository = todoStatsRepository;
     }
 
     @Override
+    @Transactional
     public State create(State state) {
-        try {
-            return stateRepository.save(state);
-        } catch (IllegalArgumentException e) {
+        if (state == null) {
             throw new NullEntityReferenceException("State cannot be 'null'");
         }
+        State saved = stateRepository.save(state);
+        todoStatsRepository.createForState(saved.getId());
+        stateCache.invalidateAfterCommit();
+        return saved;
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public State readById(long id) {
-        Optional<State> optional = stateRepository.findById(id);
+        Optional<State> optional = stateCache.getById(id);
         if (optional.isPresent()) {
             return optional.get();
         }
@@ -38,29 +50,33 @@ public class StateServiceImpl implements StateService {
     }
 
     @Override
+    @Transactional
     public State update(State state) {
         if (state != null) {
-            State oldState = readById(state.getId());
-            if (oldState != null) {
-                return stateRepository.save(state);
+            int updated = stateRepository.update(state.getId(), state.getName());
+            stateCache.invalidateAfterCommit();
+            if (updated == 0) {
+                throw new EntityNotFoundException("State with id " + state.getId() + " not found");
             }
+            return state;
         }
         throw new NullEntityReferenceException("State cannot be 'null'");
     }
 
     @Override
+    @Transactional
     public void delete(long id) {
-        State state = readById(id);
-        if (state != null) {
-            stateRepository.delete(state);
-        } else {
+        int deleted = stateRepository.removeById(id);
+        stateCache.invalidateAfterCommit();
+        if (deleted == 0) {
             throw new EntityNotFoundException("State with id " + id + " not found");
         }
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public State getByName(String name) {
-        Optional<State> optional = Optional.ofNullable(stateRepository.getByName(name));
+        Optional<State> optional = stateCache.getByName(name);
         if (optional.isPresent()) {
             return optional.get();
         }
@@ -68,8 +84,8 @@ public class StateServiceImpl implements StateService {
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<State> getAll() {
-        List<State> states = stateRepository.getAll();
-        return states.isEmpty() ? new ArrayList<>() : states;
+        return stateCache.getAll();
     }
 }
@@ -0,0 +1,88 @@
+package com.softserve.itacademy.service.impl;
+
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.repository.TodoStatsRepository;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+// Net change of the task counts per todo, state and priority. Changes are written in key order, so two
+// transactions touching the same counters lock them in the same order and cannot deadlock on each other.
+final class TaskCountChanges {
+    private final Map<Key, Long> deltas = new TreeMap<>();
+
+    void add(Task task) {
+        change(task, 1);
+    }
+
+    void remove(Task task) {
+        change(task, -1);
+    }
+
+    void move(Task from, Task to) {
+        remove(from);
+        add(to);
+    }
+
+    void change(long todoId, Long stateId, Priority priority, long delta) {
+        if (stateId != null && priority != null) {
+            deltas.merge(new Key(todoId, stateId, priority), delta, Long::sum);
+        }
+    }
+
+    void applyTo(TodoStatsRepository repository) {
+        for (Map.Entry<Key, Long> delta : deltas.entrySet()) {
+            if (delta.getValue() != 0) {
+                Key key = delta.getKey();
+                repository.addTaskCount(key.todoId, key.stateId, key.priority, delta.getValue());
+            }
+        }
+    }
+
+    private void change(Task task, long delta) {
+        if (task.getTodo() != null) {
+            change(task.getTodo().getId(), task.getState() != null ? task.getState().getId() : null,
+                    task.getPriority(), delta);
+        }
+    }
+
+    private static final class Key implements Comparable<Key> {
+        private final long todoId;
+        private final long stateId;
+        private final Priority priority;
+
+        private Key(long todoId, long stateId, Priority priority) {
+            this.todoId = todoId;
+            this.stateId = stateId;
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int result = Long.compare(todoId, other.todoId);
+            if (result == 0) {
+                result = Long.compare(stateId, other.stateId);
+            }
+            return result != 0 ? result : priority.compareTo(other.priority);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return todoId == key.todoId && stateId == key.stateId && priority == key.priority;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(todoId, stateId, priority);
+        }
+    }
+}
@@ -1,74 +1,325 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.dto.BatchResult;
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.dto.TaskCountKey;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.State;
 import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.repository.BatchInsertRepository;
 import com.softserve.itacademy.repository.TaskRepository;
+import com.softserve.itacademy.repository.TodoStatsRepository;
+import com.softserve.itacademy.repository.ToDoRepository;
+import com.softserve.itacademy.service.SearchService;
 import com.softserve.itacademy.service.TaskService;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
+import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 @Service
 public class TaskServiceImpl implements TaskService {
-    private TaskRepository taskRepository;
-
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final int MAX_BATCH_SIZE = 1000;
 
+    private TaskRepository taskRepository;
+    private ToDoRepository todoRepository;
+    private TodoStatsRepository todoStatsRepository;
+    private BatchInsertRepository batchInsertRepository;
+    private SearchService searchService;
 
-    public TaskServiceImpl(TaskRepository taskRepository) {
+    public TaskServiceImpl(TaskRepository taskRepository, ToDoRepository todoRepository,
+                           TodoStatsRepository todoStatsRepository, BatchInsertRepository batchInsertRepository,
+                           SearchService searchService) {
         this.taskRepository = taskRepository;
-    };
+        this.todoRepository = todoRepository;
+        this.todoStatsRepository = todoStatsRepository;
+        this.batchInsertRepository = batchInsertRepository;
+        this.searchService = searchService;
+    }
 
     @Override
-    public Task create(Task user) {
-        try {
-            return taskRepository.save(user);
-        } catch (IllegalArgumentException e) {
+    @Transactional
+    public Task create(Task task) {
+        if (task == null) {
             throw new NullEntityReferenceException("Task cannot be 'null'");
         }
+        Task saved = taskRepository.save(task);
+        TaskCountChanges changes = new TaskCountChanges();
+        changes.add(saved);
+        changes.applyTo(todoStatsRepository);
+        searchService.indexTasks(Collections.singletonList(saved));
+        return saved;
     }
 
     @Override
+    @Transactional
+    public List<Task> createAll(List<Task> tasks) {
+        if (tasks == null || tasks.contains(null)) {
+            throw new NullEntityReferenceException("Task cannot be 'null'");
+        }
+        batchInsertRepository.persistAll(tasks);
+        TaskCountChanges changes = new TaskCountChanges();
+        for (Task task : tasks) {
+            changes.add(task);
+        }
+        changes.applyTo(todoStatsRepository);
+        searchService.indexTasks(tasks);
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Task readById(long id) {
         Optional<Task> optional = taskRepository.findById(id);
         if (optional.isPresent()) {
-            return optional.get();
+            Task task = optional.get();
+            Hibernate.initialize(task.getState());
+            return task;
         }
         throw new EntityNotFoundException("Task with id " + id + " not found");
     }
 
     @Override
+    @Transactional
     public Task update(Task task) {
         if (task != null) {
-            Task oldTask = readById(task.getId());
-            if (oldTask != null) {
-                return taskRepository.save(task);
-            }
+            return write(null, task);
         }
         throw new NullEntityReferenceException("Task cannot be 'null'");
     }
 
+    // The editor's changes are the fields where task differs from original, the values the editor started from.
+    // When someone else saved first, those changes are replayed onto the current row as long as nobody else
+    // changed the same field to something different.
+    @Override
+    @Transactional
+    public Task update(Task original, Task task) {
+        if (original == null || task == null) {
+            throw new NullEntityReferenceException("Task cannot be 'null'");
+        }
+        return write(original, task);
+    }
+
     @Override
+    @Transactional
     public void delete(long id) {
-        Task task = readById(id);
-        if (task != null) {
-            taskRepository.delete(task);
-        } else {
-            throw new EntityNotFoundException("Task with id " + id + " not found");
+        Task current = readCached(id);
+        for (int i = 0; i < MAX_WRITE_ATTEMPTS; i++) {
+            if (taskRepository.removeByIdAndVersion(id, current.getVersion()) != 0) {
+                TaskCountChanges changes = new TaskCountChanges();
+                changes.remove(current);
+                changes.applyTo(todoStatsRepository);
+                searchService.removeTasks(Collections.singletonList(id));
+                return;
+            }
+            current = readCurrent(id);
+        }
+        throw new ObjectOptimisticLockingFailureException(Task.class, id);
+    }
+
+    @Override
+    @Transactional
+    public List<BatchResult> updateState(long todoId, Collection<Long> ids, State state) {
+        if (state == null) {
+            throw new NullEntityReferenceException("State cannot be 'null'");
+        }
+        return applyToTodo(todoId, ids, BatchResult.Status.UPDATED,
+                matched -> taskRepository.updateState(todoId, matched, state),
+                (task, changes) -> {
+                    changes.change(todoId, task.getStateId(), task.getPriority(), -1);
+                    changes.change(todoId, state.getId(), task.getPriority(), 1);
+                });
+    }
+
+    @Override
+    @Transactional
+    public List<BatchResult> updatePriority(long todoId, Collection<Long> ids, Priority priority) {
+        if (priority == null) {
+            throw new NullEntityReferenceException("Priority cannot be 'null'");
         }
+        return applyToTodo(todoId, ids, BatchResult.Status.UPDATED,
+                matched -> taskRepository.updatePriority(todoId, matched, priority),
+                (task, changes) -> {
+                    changes.change(todoId, task.getStateId(), task.getPriority(), -1);
+                    changes.change(todoId, task.getStateId(), priority, 1);
+                });
     }
 
     @Override
+    @Transactional
+    public List<BatchResult> deleteAll(long todoId, Collection<Long> ids) {
+        List<BatchResult> results = applyToTodo(todoId, ids, BatchResult.Status.DELETED,
+                matched -> taskRepository.removeByTodoIdAndIdIn(todoId, matched),
+                (task, changes) -> changes.change(todoId, task.getStateId(), task.getPriority(), -1));
+        List<Long> deleted = new ArrayList<>();
+        for (BatchResult result : results) {
+            if (result.getStatus() == BatchResult.Status.DELETED) {
+                deleted.add(result.getId());
+            }
+        }
+        searchService.removeTasks(deleted);
+        return results;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Task> getAll() {
         List<Task> tasks = taskRepository.findAll();
         return tasks.isEmpty() ? new ArrayList<>() : tasks;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Task> getByTodoId(long todoId) {
-        List<Task> tasks = taskRepository.getByTodoId(todoId);
+        List<Task> tasks = taskRepository.getWithStateByTodoId(todoId);
         return tasks.isEmpty() ? new ArrayList<>() : tasks;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Task> getAll(Pageable pageable) {
+        return taskRepository.getAll(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Task> getByTodoId(long todoId, Pageable pageable) {
+        return taskRepository.getWithStateByTodoId(todoId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Task> getPageByTodoId(long todoId, Long after, Long before, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        if (before != null) {
+            return KeysetPage.backward(taskRepository.getByTodoIdBeforeId(todoId, before, limit), size, Task::getId);
+        }
+        List<Task> tasks = taskRepository.getByTodoIdAfterId(todoId, after != null ? after : 0L, limit);
+        return KeysetPage.forward(tasks, size, after != null, Task::getId);
+    }
+
+    // The todo is checked once and the tasks that belong to it are resolved and locked with one query; the change
+    // itself is a single statement over those ids, followed by at most one counter update per state and priority.
+    private List<BatchResult> applyToTodo(long todoId, Collection<Long> ids, BatchResult.Status status,
+                                          Function<Set<Long>, Integer> operation,
+                                          BiConsumer<TaskCountKey, TaskCountChanges> counts) {
+        if (ids == null || ids.contains(null)) {
+            throw new NullEntityReferenceException("Task id cannot be 'null'");
+        }
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch cannot have more than " + MAX_BATCH_SIZE + " tasks");
+        }
+        if (!todoRepository.existsById(todoId)) {
+            throw new EntityNotFoundException("To-Do with id " + todoId + " not found");
+        }
+        Set<Long> matched = new LinkedHashSet<>();
+        TaskCountChanges changes = new TaskCountChanges();
+        if (!requested.isEmpty()) {
+            for (TaskCountKey task : taskRepository.getCountKeysByTodoIdAndIdInForUpdate(todoId, requested)) {
+                matched.add(task.getId());
+                counts.accept(task, changes);
+            }
+        }
+        if (!matched.isEmpty()) {
+            operation.apply(matched);
+            changes.applyTo(todoStatsRepository);
+        }
+        List<BatchResult> results = new ArrayList<>(requested.size());
+        for (Long id : requested) {
+            results.add(new BatchResult(id, matched.contains(id) ? status : BatchResult.Status.NOT_FOUND));
+        }
+        return results;
+    }
+
+    // The row is written only at the version of the copy it was compared with, so the counters always move from
+    // the values that were actually replaced. The first copy usually comes from the second-level cache; a stale
+    // one costs a missed write and a read, never a wrong count.
+    private Task write(Task original, Task task) {
+        Task current = readCached(task.getId());
+        for (int i = 0; i < MAX_WRITE_ATTEMPTS; i++) {
+            Task attempt = task;
+            if (current.getVersion() > task.getVersion()) {
+                if (original == null) {
+                    throw new ObjectOptimisticLockingFailureException(Task.class, task.getId());
+                }
+                attempt = merge(original, task, current);
+            }
+            if (updateRow(attempt, current.getVersion())) {
+                TaskCountChanges changes = new TaskCountChanges();
+                changes.move(current, attempt);
+                changes.applyTo(todoStatsRepository);
+                searchService.indexTasks(Collections.singletonList(attempt));
+                return attempt;
+            }
+            current = readCurrent(task.getId());
+        }
+        throw new ObjectOptimisticLockingFailureException(Task.class, task.getId());
+    }
+
+    private Task readCached(long id) {
+        return taskRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Task with id " + id + " not found"));
+    }
+
+    // Only called after a missed write, which has cleared the persistence context.
+    private Task readCurrent(long id) {
+        return taskRepository.getCurrentById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Task with id " + id + " not found"));
+    }
+
+    private boolean updateRow(Task task, long version) {
+        int updated = taskRepository.update(task.getId(), task.getName(), task.getPriority(),
+                task.getTodo(), task.getState(), version);
+        if (updated == 0) {
+            return false;
+        }
+        task.setVersion(version + 1);
+        return true;
+    }
+
+    private static Task merge(Task original, Task edited, Task current) {
+        Task merged = new Task();
+        merged.setId(current.getId());
+        merged.setName(takeEdited(original, edited, current, Task::getName)
+                ? edited.getName() : current.getName());
+        merged.setPriority(takeEdited(original, edited, current, Task::getPriority)
+                ? edited.getPriority() : current.getPriority());
+        merged.setTodo(takeEdited(original, edited, current, t -> t.getTodo().getId())
+                ? edited.getTodo() : current.getTodo());
+        merged.setState(takeEdited(original, edited, current, t -> t.getState().getId())
+                ? edited.getState() : current.getState());
+        return merged;
+    }
+
+    // A field changed by both sides to different values cannot be merged.
+    private static boolean takeEdited(Task original, Task edited, Task current, Function<Task, ?> field) {
+        Object before = field.apply(original);
+        Object mine = field.apply(edited);
+        Object theirs = field.apply(current);
+        if (Objects.equals(before, mine)) {
+            return false;
+        }
+        if (Objects.equals(before, theirs) || Objects.equals(mine, theirs)) {
+            return true;
+        }
+        throw new ObjectOptimisticLockingFailureException(Task.class, current.getId());
+    }
 }
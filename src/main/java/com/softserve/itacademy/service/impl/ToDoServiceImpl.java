@@ -1,13 +1,35 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.dto.ToDoTasksView;
+import com.softserve.itacademy.dto.TodoStats;
+import com.softserve.itacademy.dto.TodoSummary;
+import com.softserve.itacademy.dto.VersionStamp;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
+import com.softserve.itacademy.model.Task;
 import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.model.User;
+import com.softserve.itacademy.repository.BatchInsertRepository;
+import com.softserve.itacademy.repository.TaskRepository;
 import com.softserve.itacademy.repository.ToDoRepository;
+import com.softserve.itacademy.repository.TodoStatsRepository;
+import com.softserve.itacademy.repository.UserRepository;
+import com.softserve.itacademy.service.SearchService;
+import com.softserve.itacademy.service.TaskService;
 import com.softserve.itacademy.service.ToDoService;
+import org.hibernate.Hibernate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,59 +37,225 @@ import java.util.Optional;
 public class ToDoServiceImpl implements ToDoService {
 
     private ToDoRepository todoRepository;
+    private TaskRepository taskRepository;
+    private TaskService taskService;
+    private UserRepository userRepository;
+    private TodoStatsRepository todoStatsRepository;
+    private BatchInsertRepository batchInsertRepository;
+    private SearchService searchService;
 
-    public ToDoServiceImpl(ToDoRepository todoRepository) {
+    public ToDoServiceImpl(ToDoRepository todoRepository, TaskRepository taskRepository,
+                           TaskService taskService, UserRepository userRepository,
+                           TodoStatsRepository todoStatsRepository, BatchInsertRepository batchInsertRepository,
+                           SearchService searchService) {
         this.todoRepository = todoRepository;
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.userRepository = userRepository;
+        this.todoStatsRepository = todoStatsRepository;
+        this.batchInsertRepository = batchInsertRepository;
+        this.searchService = searchService;
     }
 
     @Override
+    @Transactional
     public ToDo create(ToDo todo) {
+        if (todo == null) {
+            throw new NullEntityReferenceException("To-Do cannot be 'null'");
+        }
+        // Flushed here, so a broken constraint is reported as a bad request inside the transaction instead of
+        // escaping from the commit as a server error.
+        ToDo saved;
         try {
-            return todoRepository.save(todo);
-        } catch (RuntimeException e) {
+            saved = todoRepository.saveAndFlush(todo);
+        } catch (DataIntegrityViolationException e) {
+            throw new NullEntityReferenceException("To-Do '" + todo.getTitle() + "' cannot be saved: " +
+                    "the title is already taken or the owner is missing");
+        }
+        todoStatsRepository.createForToDos(Collections.singletonList(saved.getId()));
+        searchService.indexToDos(Collections.singletonList(saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<ToDo> createAll(List<ToDo> todos) {
+        if (todos == null || todos.contains(null)) {
             throw new NullEntityReferenceException("To-Do cannot be 'null'");
         }
+        try {
+            batchInsertRepository.persistAll(todos);
+        } catch (DataIntegrityViolationException e) {
+            throw new NullEntityReferenceException("To-Do lists cannot be saved: a title is already taken " +
+                    "or an owner is missing");
+        }
+        List<Long> ids = new ArrayList<>(todos.size());
+        for (ToDo todo : todos) {
+            ids.add(todo.getId());
+        }
+        todoStatsRepository.createForToDos(ids);
+        searchService.indexToDos(todos);
+        return todos;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ToDo readById(long id) {
         Optional<ToDo> optional = todoRepository.findById(id);
         if (optional.isPresent()) {
-            return optional.get();
+            ToDo todo = optional.get();
+            Hibernate.initialize(todo.getOwner());
+            Hibernate.initialize(todo.getCollaborators());
+            return todo;
         }
         throw new EntityNotFoundException("To-Do with id " + id + " not found");
     }
 
     @Override
+    @Transactional
     public ToDo update(ToDo todo) {
         if (todo != null) {
-            ToDo oldTodo = readById(todo.getId());
-            if (oldTodo != null) {
-                return todoRepository.save(todo);
+            if (todoRepository.update(todo.getId(), todo.getTitle(), todo.getCreatedAt(), todo.getVersion()) == 0) {
+                if (!todoRepository.existsById(todo.getId())) {
+                    throw new EntityNotFoundException("To-Do with id " + todo.getId() + " not found");
+                }
+                throw new ObjectOptimisticLockingFailureException(ToDo.class, todo.getId());
             }
+            todo.setVersion(todo.getVersion() + 1);
+            searchService.indexToDos(Collections.singletonList(todo));
+            return todo;
         }
         throw new NullEntityReferenceException("To-Do cannot be 'null'");
     }
 
     @Override
+    @Transactional
     public void delete(long id) {
-        ToDo todo = readById(id);
-        if (todo != null) {
-            todoRepository.delete(todo);
-        } else {
+        taskRepository.removeByTodoId(id);
+        todoRepository.removeCollaborators(id);
+        if (todoRepository.removeById(id) == 0) {
             throw new EntityNotFoundException("To-Do with id " + id + " not found");
         }
+        searchService.removeToDos(Collections.singletonList(id));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ToDo> getAll() {
         List<ToDo> todos = todoRepository.findAll();
         return todos.isEmpty() ? new ArrayList<>() : todos;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ToDo> getByUserId(long userId) {
-        List<ToDo> todos = todoRepository.getByUserId(userId);
+        List<ToDo> todos = initializeOwners(todoRepository.getByUserId(userId));
         return todos.isEmpty() ? new ArrayList<>() : todos;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ToDo> getAll(Pageable pageable) {
+        return todoRepository.getAll(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ToDo> getByUserId(long userId, Pageable pageable) {
+        return todoRepository.getByUserId(userId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<TodoSummary> getPageByUserId(long userId, String after, String before, int size) {
+        int limit = size + 1;
+        if (before != null) {
+            ToDo cursor = parseCursor(before);
+            return KeysetPage.backward(
+                    todoRepository.getSummariesByUserIdBefore(userId, cursor.getCreatedAt(), cursor.getId(), limit),
+                    size, ToDoServiceImpl::toCursor);
+        }
+        if (after != null) {
+            ToDo cursor = parseCursor(after);
+            return KeysetPage.forward(
+                    todoRepository.getSummariesByUserIdAfter(userId, cursor.getCreatedAt(), cursor.getId(), limit),
+                    size, true, ToDoServiceImpl::toCursor);
+        }
+        return KeysetPage.forward(todoRepository.getSummariesByUserId(userId, limit),
+                size, false, ToDoServiceImpl::toCursor);
+    }
+
+    @Override
+    @Transactional
+    public void addCollaborator(long todoId, long userId) {
+        if (todoRepository.addCollaborator(todoId, userId) == 0) {
+            if (!todoRepository.existsById(todoId)) {
+                throw new EntityNotFoundException("To-Do with id " + todoId + " not found");
+            }
+            if (!userRepository.existsById(userId)) {
+                throw new EntityNotFoundException("User with id " + userId + " not found");
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void removeCollaborator(long todoId, long userId) {
+        if (todoRepository.removeCollaborator(todoId, userId) == 0 && !todoRepository.existsById(todoId)) {
+            throw new EntityNotFoundException("To-Do with id " + todoId + " not found");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ToDoTasksView readTasksView(long id, Long after, Long before, int size) {
+        Optional<ToDo> optional = todoRepository.getWithOwnerAndCollaboratorsById(id);
+        if (!optional.isPresent()) {
+            throw new EntityNotFoundException("To-Do with id " + id + " not found");
+        }
+        ToDo todo = optional.get();
+        KeysetPage<Task> tasks = taskService.getPageByTodoId(id, after, before, size);
+        List<User> users = userRepository.getAllExceptId(todo.getOwner().getId());
+        TodoStats stats = todoStatsRepository.getByTodoIds(Collections.singletonList(id)).get(id);
+        return new ToDoTasksView(todo, tasks, users, stats);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp getTasksViewStamp(long id) {
+        return VersionStamp.of(todoRepository.getTasksViewStamp(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp getUserToDosStamp(long userId) {
+        return VersionStamp.of(todoRepository.getUserToDosStamp(userId));
+    }
+
+    private static List<ToDo> initializeOwners(List<ToDo> todos) {
+        for (ToDo todo : todos) {
+            Hibernate.initialize(todo.getOwner());
+        }
+        return todos;
+    }
+
+    private static String toCursor(TodoSummary todo) {
+        return todo.getCreatedAt() + "_" + todo.getId();
+    }
+
+    private static ToDo parseCursor(String cursor) {
+        int separator = cursor.lastIndexOf('_');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid To-Do cursor '" + cursor + "'");
+        }
+        try {
+            ToDo todo = new ToDo();
+            todo.setCreatedAt(LocalDateTime.parse(cursor.substring(0, separator)));
+            todo.setId(Long.parseLong(cursor.substring(separator + 1)));
+            return todo;
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid To-Do cursor '" + cursor + "'");
+        }
+    }
+
 }
@@ -0,0 +1,52 @@
+package com.softserve.itacademy.service.impl;
+
+import com.softserve.itacademy.dto.TodoStats;
+import com.softserve.itacademy.repository.TodoStatsRepository;
+import com.softserve.itacademy.service.TodoStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+
+@Service
+public class TodoStatsServiceImpl implements TodoStatsService {
+    private final Logger logger = LoggerFactory.getLogger(TodoStatsServiceImpl.class);
+
+    private TodoStatsRepository todoStatsRepository;
+    private TransactionTemplate transaction;
+
+    public TodoStatsServiceImpl(TodoStatsRepository todoStatsRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.todoStatsRepository = todoStatsRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, TodoStats> getByTodoIds(Collection<Long> todoIds) {
+        return todoStatsRepository.getByTodoIds(todoIds);
+    }
+
+    // The counters are only changed together with the tasks, so this should find nothing; it repairs rows written
+    // outside the services, e.g. by hand or by a bulk load. Each todo is recounted in its own transaction, so its
+    // counters stay locked only while its tasks are counted.
+    @Override
+    @Scheduled(cron = "${todolist.stats.reconcile-cron:0 30 3 * * *}")
+    public int reconcile() {
+        transaction.executeWithoutResult(status -> todoStatsRepository.createMissing());
+        int corrected = 0;
+        for (Long todoId : transaction.execute(status -> todoStatsRepository.getOutOfDateTodoIds())) {
+            corrected += transaction.execute(status -> todoStatsRepository.recount(todoId));
+        }
+        if (corrected > 0) {
+            logger.warn("{} task counters of ToDo Lists were out of date and have been rebuilt", corrected);
+        }
+        return corrected;
+    }
+}
@@ -1,12 +1,22 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.dto.KeysetPage;
+import com.softserve.itacademy.dto.VersionStamp;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
 import com.softserve.itacademy.model.User;
+import com.softserve.itacademy.repository.TaskRepository;
+import com.softserve.itacademy.repository.ToDoRepository;
 import com.softserve.itacademy.repository.UserRepository;
+import com.softserve.itacademy.service.SearchService;
 import com.softserve.itacademy.service.UserService;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
+import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -15,30 +25,41 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService {
 
     private UserRepository userRepository;
+    private ToDoRepository todoRepository;
+    private TaskRepository taskRepository;
+    private SearchService searchService;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, ToDoRepository todoRepository,
+                           TaskRepository taskRepository, SearchService searchService) {
         this.userRepository = userRepository;
+        this.todoRepository = todoRepository;
+        this.taskRepository = taskRepository;
+        this.searchService = searchService;
     }
 
     @Override
+    @Transactional
     public User create(User user) {
-        try {
-            return userRepository.save(user);
-        } catch (IllegalArgumentException e) {
+        if (user == null) {
             throw new NullEntityReferenceException("User cannot be 'null'");
         }
+        return userRepository.save(user);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User readById(long id) {
         Optional<User> optional = userRepository.findById(id);
         if (optional.isPresent()) {
-            return optional.get();
+            User user = optional.get();
+            Hibernate.initialize(user.getRole());
+            return user;
         }
         throw new EntityNotFoundException("User with id " + id + " not found");
     }
 
     @Override
+    @Transactional
     public User update(User user) {
         if (user != null) {
             User oldUser = readById(user.getId());
@@ -49,20 +70,47 @@ public class UserServiceImpl implements UserService {
         throw new NullEntityReferenceException("User cannot be 'null'");
     }
 
+    // Children first, one statement per table, so nothing of the user's todos is loaded into the session.
+    // Hibernate clears todo_collaborator itself before each bulk delete of todos and users.
     @Override
+    @Transactional
     public void delete(long id) {
-        User user = readById(id);
-        if (user != null) {
-            userRepository.delete(user);
-        } else {
+        List<Long> todoIds = todoRepository.getIdsByOwnerId(id);
+        taskRepository.removeByTodoOwnerId(id);
+        todoRepository.removeByOwnerId(id);
+        if (userRepository.removeById(id) == 0) {
             throw new EntityNotFoundException("User with id " + id + " not found");
         }
+        searchService.removeToDos(todoIds);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> getAll() {
         List<User> users = userRepository.findAll();
         return users.isEmpty() ? new ArrayList<>() : users;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<User> getAll(Pageable pageable) {
+        return userRepository.getAll(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<User> getPage(Long after, Long before, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        if (before != null) {
+            return KeysetPage.backward(userRepository.getBeforeId(before, limit), size, User::getId);
+        }
+        List<User> users = userRepository.getAfterId(after != null ? after : 0L, limit);
+        return KeysetPage.forward(users, size, after != null, User::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp getAllStamp() {
+        return VersionStamp.of(userRepository.getStamp());
+    }
 }
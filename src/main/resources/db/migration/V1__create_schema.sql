@@ -0,0 +1,64 @@
+CREATE TABLE roles (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 100) PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE states (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 100) PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_states_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 100) PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name  VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    role_id    BIGINT,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE SEQUENCE todos_id_seq START WITH 100 INCREMENT BY 50;
+
+CREATE TABLE todos (
+    id         BIGINT PRIMARY KEY,
+    title      VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP    NOT NULL,
+    owner_id   BIGINT,
+    CONSTRAINT uk_todos_title UNIQUE (title)
+);
+
+CREATE SEQUENCE tasks_id_seq START WITH 100 INCREMENT BY 50;
+
+CREATE TABLE tasks (
+    id       BIGINT PRIMARY KEY,
+    name     VARCHAR(255) NOT NULL,
+    priority VARCHAR(255),
+    todo_id  BIGINT,
+    state_id BIGINT
+);
+
+CREATE TABLE todo_collaborator (
+    todo_id         BIGINT NOT NULL,
+    collaborator_id BIGINT NOT NULL,
+    CONSTRAINT pk_todo_collaborator PRIMARY KEY (todo_id, collaborator_id)
+);
+
+-- Indexes are created before the foreign keys so H2 reuses them instead of adding its own.
+-- (todo_id, id) also serves the keyset pagination on tasks of a todo
+CREATE INDEX idx_tasks_todo_id ON tasks (todo_id, id);
+CREATE INDEX idx_tasks_state_id ON tasks (state_id);
+-- (owner_id, created_at, id) also serves the keyset pagination on todos of a user
+CREATE INDEX idx_todos_owner_id ON todos (owner_id, created_at, id);
+CREATE INDEX idx_users_role_id ON users (role_id);
+-- the primary key covers lookups by todo_id, this one the reverse direction
+CREATE INDEX idx_todo_collaborator_collaborator_id ON todo_collaborator (collaborator_id, todo_id);
+
+ALTER TABLE users ADD CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES roles (id);
+ALTER TABLE todos ADD CONSTRAINT fk_todos_owner FOREIGN KEY (owner_id) REFERENCES users (id);
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_todo FOREIGN KEY (todo_id) REFERENCES todos (id);
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_state FOREIGN KEY (state_id) REFERENCES states (id);
+ALTER TABLE todo_collaborator ADD CONSTRAINT fk_todo_collaborator_todo FOREIGN KEY (todo_id) REFERENCES todos (id);
+ALTER TABLE todo_collaborator ADD CONSTRAINT fk_todo_collaborator_user FOREIGN KEY (collaborator_id) REFERENCES users (id);
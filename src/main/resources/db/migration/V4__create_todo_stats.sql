@@ -0,0 +1,22 @@
+-- Task counts of every todo per state and priority, kept up to date by the task service. A row exists for every
+-- combination from the moment the todo (or state) is created, so writers only ever update.
+CREATE TABLE todo_stats (
+    todo_id    BIGINT       NOT NULL,
+    state_id   BIGINT       NOT NULL,
+    priority   VARCHAR(255) NOT NULL,
+    task_count BIGINT       DEFAULT 0 NOT NULL,
+    version    BIGINT       DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_todo_stats PRIMARY KEY (todo_id, state_id, priority)
+);
+
+CREATE INDEX idx_todo_stats_state_id ON todo_stats (state_id);
+
+ALTER TABLE todo_stats ADD CONSTRAINT fk_todo_stats_todo FOREIGN KEY (todo_id) REFERENCES todos (id) ON DELETE CASCADE;
+ALTER TABLE todo_stats ADD CONSTRAINT fk_todo_stats_state FOREIGN KEY (state_id) REFERENCES states (id) ON DELETE CASCADE;
+
+INSERT INTO todo_stats (todo_id, state_id, priority, task_count)
+SELECT t.id, s.id, p.priority,
+       (SELECT count(*) FROM tasks k WHERE k.todo_id = t.id AND k.state_id = s.id AND k.priority = p.priority)
+FROM todos t
+CROSS JOIN states s
+CROSS JOIN (SELECT 'LOW' AS priority UNION ALL SELECT 'MEDIUM' UNION ALL SELECT 'HIGH') p;
@@ -0,0 +1,155 @@
+package com.softserve.itacademy.cache;
+
+import com.softserve.itacademy.model.Role;
+import com.softserve.itacademy.model.State;
+import com.softserve.itacademy.service.RoleService;
+import com.softserve.itacademy.service.StateService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_CLASS;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = BEFORE_CLASS)
+class ReferenceCacheTest {
+    private final StateService stateService;
+    private final RoleService roleService;
+    private final ReferenceCache<State> stateCache;
+    private final ReferenceCache<Role> roleCache;
+    private final Statistics statistics;
+    private final MeterRegistry registry;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ReferenceCacheTest(StateService stateService, RoleService roleService,
+                       ReferenceCache<State> stateCache, ReferenceCache<Role> roleCache,
+                       EntityManagerFactory entityManagerFactory, MeterRegistry registry,
+                       TransactionTemplate transactionTemplate) {
+        this.stateService = stateService;
+        this.roleService = roleService;
+        this.stateCache = stateCache;
+        this.roleCache = roleCache;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.registry = registry;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Test
+    void cachedLookupsRunNoSql() {
+        stateService.getAll();
+        roleService.getAll();
+        statistics.clear();
+        long stateHits = stateCache.getHits();
+        long roleHits = roleCache.getHits();
+
+        assertEquals("New", stateService.getByName("New").getName());
+        assertEquals(5L, stateService.readById(5L).getId());
+        assertEquals(4, stateService.getAll().size());
+        assertEquals("USER", roleService.readById(2L).getName());
+        assertEquals(2, roleService.getAll().size());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(stateHits + 3, stateCache.getHits());
+        assertEquals(roleHits + 2, roleCache.getHits());
+    }
+
+    @Test
+    void invalidateReloadsOnNextLookup() {
+        // leaves the states query in Hibernate's query cache, whatever other tests wrote to the table before
+        stateCache.reload();
+        stateCache.invalidate();
+        long misses = stateCache.getMisses();
+        statistics.clear();
+
+        stateService.getByName("Done");
+
+        assertEquals(misses + 1, stateCache.getMisses());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void writesInvalidateOnlyAfterCommit() {
+        int states = stateService.getAll().size();
+        State state = new State();
+        state.setName("Review");
+
+        State created = transactionTemplate.execute(status -> {
+            State saved = stateService.create(state);
+            assertEquals(states, stateCache.getAll().size());
+            return saved;
+        });
+        assertEquals(states + 1, stateService.getAll().size());
+
+        stateService.delete(created.getId());
+        assertEquals(states, stateService.getAll().size());
+    }
+
+    @Test
+    void hitsAndMissesArePublished() {
+        stateService.getAll();
+        stateCache.invalidate();
+        stateService.getByName("Done");
+        roleService.getAll();
+
+        assertEquals(stateCache.getHits(), count("states", "hit"));
+        assertEquals(stateCache.getMisses(), count("states", "miss"));
+        assertEquals(roleCache.getHits(), count("roles", "hit"));
+        assertTrue(count("states", "miss") > 0);
+    }
+
+    @Test
+    void reloadOverlappingAnInvalidateIsNotKept() {
+        AtomicInteger loads = new AtomicInteger();
+        AtomicReference<ReferenceCache<String>> cache = new AtomicReference<>();
+        cache.set(new ReferenceCache<>("test", () -> {
+            if (loads.incrementAndGet() == 1) {
+                cache.get().invalidate();
+            }
+            return Arrays.asList("New", "Done");
+        }, value -> (long) value.length(), value -> value));
+
+        assertEquals(2, cache.get().getAll().size());
+        cache.get().getAll();
+        cache.get().getAll();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void unknownKeysAreAnsweredWithoutReloading() {
+        AtomicInteger loads = new AtomicInteger();
+        ReferenceCache<String> cache = new ReferenceCache<>("test", () -> {
+            loads.incrementAndGet();
+            return Arrays.asList("New", "Done");
+        }, value -> (long) value.length(), value -> value);
+        cache.reload();
+
+        assertFalse(cache.getById(99L).isPresent());
+        assertFalse(cache.getByName("Review").isPresent());
+
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.getHits());
+    }
+
+    private double count(String cache, String result) {
+        return registry.get("todolist.reference.cache.gets").tag("cache", cache).tag("result", result)
+                .functionCounter().count();
+    }
+}
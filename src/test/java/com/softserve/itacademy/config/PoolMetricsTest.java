@@ -0,0 +1,40 @@
+package com.softserve.itacademy.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PoolMetricsTest {
+    private final MockMvc mockMvc;
+
+    @Autowired
+    PoolMetricsTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    void poolGaugesAreExposed() throws Exception {
+        for (String gauge : new String[]{"active", "idle", "pending", "max"}) {
+            mockMvc.perform(get("/actuator/metrics/hikaricp.connections." + gauge).param("tag", "pool:todolist"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("hikaricp.connections." + gauge));
+        }
+    }
+
+    @Test
+    void acquireTimerIsExposed() throws Exception {
+        mockMvc.perform(get("/actuator/metrics/hikaricp.connections.acquire"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value").exists());
+    }
+}
@@ -0,0 +1,62 @@
+package com.softserve.itacademy.config;
+
+import com.softserve.itacademy.config.ReadOnlyRoutingDataSource.Route;
+import com.softserve.itacademy.service.TaskService;
+import com.softserve.itacademy.service.ToDoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityNotFoundException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_CLASS;
+
+// The "replica" is a second pool on the same in-memory database, which is enough to check the routing. Both pools
+// name the database explicitly and log in with the same credentials, since the test profile's URL is random.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica_routing_db",
+        "todolist.datasource.replica.jdbc-url=jdbc:h2:mem:replica_routing_db",
+        "todolist.datasource.replica.username=sa",
+        "todolist.datasource.replica.password="
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = BEFORE_CLASS)
+class ReadReplicaRoutingTest {
+    private final ReadOnlyRoutingDataSource routingDataSource;
+    private final ToDoService todoService;
+    private final TaskService taskService;
+
+    @Autowired
+    ReadReplicaRoutingTest(ReadOnlyRoutingDataSource routingDataSource, ToDoService todoService,
+                           TaskService taskService) {
+        this.routingDataSource = routingDataSource;
+        this.todoService = todoService;
+        this.taskService = taskService;
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        long primary = routingDataSource.getLookups(Route.PRIMARY);
+        long replica = routingDataSource.getLookups(Route.REPLICA);
+
+        todoService.getPageByUserId(4L, null, null, 20);
+
+        assertEquals(primary, routingDataSource.getLookups(Route.PRIMARY));
+        assertEquals(replica + 1, routingDataSource.getLookups(Route.REPLICA));
+    }
+
+    @Test
+    void writeTransactionsUsePrimary() {
+        long primary = routingDataSource.getLookups(Route.PRIMARY);
+        long replica = routingDataSource.getLookups(Route.REPLICA);
+
+        assertThrows(EntityNotFoundException.class, () -> taskService.delete(999_999L));
+
+        assertEquals(primary + 1, routingDataSource.getLookups(Route.PRIMARY));
+        assertEquals(replica, routingDataSource.getLookups(Route.REPLICA));
+    }
+}
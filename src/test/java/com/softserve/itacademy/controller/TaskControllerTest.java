@@ -3,20 +3,33 @@ package com.softserve.itacademy.controller;
 import com.softserve.itacademy.dto.TaskDto;
 import com.softserve.itacademy.dto.TaskTransformer;
 import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.Task;
 import com.softserve.itacademy.model.ToDo;
 import com.softserve.itacademy.service.StateService;
 import com.softserve.itacademy.service.TaskService;
 import com.softserve.itacademy.service.ToDoService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_CLASS;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -34,13 +47,17 @@ class TaskControllerTest {
 
     private final StateService stateService;
 
+    private final Statistics statistics;
+
 
     @Autowired
-    TaskControllerTest(MockMvc mockMvc, TaskService taskService, ToDoService todoService, StateService stateService) {
+    TaskControllerTest(MockMvc mockMvc, TaskService taskService, ToDoService todoService, StateService stateService,
+                       EntityManagerFactory entityManagerFactory) {
         this.mockMvc = mockMvc;
         this.taskService = taskService;
         this.todoService = todoService;
         this.stateService = stateService;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
     }
 
     @Test
@@ -126,6 +143,31 @@ class TaskControllerTest {
     }
 
 
+    @Test
+    void staleConflictingUpdateShowsConflictPage() throws Exception {
+        long taskId = 6L;
+        long todoId = 7L;
+        Task task = taskService.readById(taskId);
+        String originalName = task.getName();
+        task.setName("Renamed elsewhere");
+        taskService.update(task);
+
+        mockMvc.perform(post("/tasks/{task_id}/update/todos/{todo_id}", taskId, todoId)
+                        .param("name", "Renamed here")
+                        .param("priority", task.getPriority().name())
+                        .param("stateId", Long.toString(task.getState().getId()))
+                        .param("id", Long.toString(taskId))
+                        .param("todoId", Long.toString(todoId))
+                        .param("version", Long.toString(task.getVersion() - 1))
+                        .param("originalName", originalName)
+                        .param("originalPriority", task.getPriority().name())
+                        .param("originalStateId", Long.toString(task.getState().getId())))
+                .andExpect(status().isConflict())
+                .andExpect(view().name("conflict"));
+
+        assertEquals("Renamed elsewhere", taskService.readById(taskId).getName());
+    }
+
     @Test
     void delete() throws Exception {
 
@@ -135,4 +177,88 @@ class TaskControllerTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(header().string("Location", "/todos/" + todoId + "/tasks"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateTaskRunsSingleStatement() {
+        Task task = taskService.readById(6L);
+        task.setName("RenamedTask");
+        statistics.clear();
+
+        taskService.update(task);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("RenamedTask", taskService.readById(6L).getName());
+    }
+
+    @Test
+    void updateMissingTaskThrowsNotFound() {
+        Task task = taskService.readById(6L);
+        task.setId(999L);
+        assertThrows(EntityNotFoundException.class, () -> taskService.update(task));
+    }
+
+    @Test
+    void deleteTaskRunsVersionedDeleteAndCounterUpdate() {
+        taskService.readById(7L);
+        statistics.clear();
+
+        taskService.delete(7L);
+
+        // The cached row gives the version to delete at and the counter to decrement; nothing is read or locked.
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertThrows(EntityNotFoundException.class, () -> taskService.delete(7L));
+    }
+
+    @Test
+    void importTasksFromCsvIsBatched() throws Exception {
+        long todoId = 12L;
+        int rows = 200;
+        StringBuilder csv = new StringBuilder("name,priority\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("\"Imported, #").append(i).append("\",low\n");
+        }
+        MockMultipartFile file = new MockMultipartFile("file", "tasks.csv", "text/csv",
+                csv.toString().getBytes(StandardCharsets.UTF_8));
+        int before = taskService.getByTodoId(todoId).size();
+        statistics.clear();
+
+        mockMvc.perform(multipart("/tasks/import/todos/{todo_id}", todoId).file(file))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(header().string("Location", "/todos/" + todoId + "/tasks"));
+
+        assertTrue(statistics.getPrepareStatementCount() <= 20);
+        assertEquals(before + rows, taskService.getByTodoId(todoId).size());
+    }
+
+    @Test
+    void importTasksWithBlankNameIsRejected() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "tasks.json", "application/json",
+                "[{\"name\": \" \", \"priority\": \"HIGH\"}]".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/tasks/import/todos/{todo_id}", 13L).file(file))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importTasksFromMalformedFilesNamesTheLine() throws Exception {
+        MockMultipartFile json = new MockMultipartFile("file", "tasks.json", "application/json",
+                "[{\"name\": \"Pay rent\", \"priority\": \"HIGH\"},\n{\"name\": \"Call\""
+                        .getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile csv = new MockMultipartFile("file", "tasks.csv", "text/csv",
+                "name,priority\nPay rent,high\n\"Call, mom,low\n".getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile priority = new MockMultipartFile("file", "tasks.csv", "text/csv",
+                "name,priority\nPay rent,urgent\n".getBytes(StandardCharsets.UTF_8));
+        int before = taskService.getByTodoId(13L).size();
+
+        mockMvc.perform(multipart("/tasks/import/todos/{todo_id}", 13L).file(json))
+                .andExpect(status().isBadRequest())
+                .andExpect(model().attribute("message", containsString("Line 2")));
+        mockMvc.perform(multipart("/tasks/import/todos/{todo_id}", 13L).file(csv))
+                .andExpect(status().isBadRequest())
+                .andExpect(model().attribute("message", containsString("Line 3")));
+        mockMvc.perform(multipart("/tasks/import/todos/{todo_id}", 13L).file(priority))
+                .andExpect(status().isBadRequest())
+                .andExpect(model().attribute("message", containsString("Row 1: 'urgent'")));
+        assertEquals(before, taskService.getByTodoId(13L).size());
+    }
+}
@@ -1,23 +1,31 @@
 package com.softserve.itacademy.controller;
 
+import com.softserve.itacademy.dto.TodoSummary;
 import com.softserve.itacademy.model.Task;
 import com.softserve.itacademy.model.ToDo;
 import com.softserve.itacademy.model.User;
 import com.softserve.itacademy.service.TaskService;
 import com.softserve.itacademy.service.ToDoService;
 import com.softserve.itacademy.service.UserService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_CLASS;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -35,14 +43,19 @@ public class ToDoControllerTest {
     private final ToDoService todoService;
     private final TaskService taskService;
     private final UserService userService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Autowired
     public ToDoControllerTest(MockMvc mockMvc, ToDoService todoService,
-                              TaskService taskService, UserService userService) {
+                              TaskService taskService, UserService userService,
+                              EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
         this.mockMvc = mockMvc;
         this.todoService = todoService;
         this.taskService = taskService;
         this.userService = userService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Test
@@ -69,6 +82,16 @@ public class ToDoControllerTest {
         );
     }
 
+    @Test
+    public void createToDoWithTakenTitleTest() throws Exception {
+        long ownerId = 5L;
+        String takenTitle = todoService.readById(7L).getTitle();
+        mockMvc.perform(post(BASE_URL + "/create/users/{owner_id}", ownerId)
+                        .param("title", takenTitle))
+                .andExpect(status().isBadRequest())
+                .andExpect(model().attribute("code", "400 / Bad Request"));
+    }
+
     @Test
     public void createInvalidToDoTest() throws Exception {
         long ownerId = 5L;
@@ -96,6 +119,99 @@ public class ToDoControllerTest {
                 .andExpect(model().attribute("users", expectedUsers));
     }
 
+    @Test
+    public void getReadToDoTasksPageStatementCountTest() throws Exception {
+        long toDoId = 7L;
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(BASE_URL + "/{id}/tasks", toDoId))
+                .andExpect(status().isOk());
+
+        assertTrue(statistics.getPrepareStatementCount() <= 5);
+    }
+
+    @Test
+    public void getReadToDoTasksPageReturnsNotModifiedTest() throws Exception {
+        long toDoId = 7L;
+        String etag = mockMvc.perform(get(BASE_URL + "/{id}/tasks", toDoId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(BASE_URL + "/{id}/tasks", toDoId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void etagOfToDoTasksPageChangesWithTasksTest() throws Exception {
+        long toDoId = 9L;
+        String etag = mockMvc.perform(get(BASE_URL + "/{id}/tasks", toDoId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(post("/tasks/create/todos/{todo_id}", toDoId)
+                        .param("name", "Conditional GET task")
+                        .param("priority", "LOW")
+                        .param("todoId", Long.toString(toDoId)))
+                .andExpect(status().is3xxRedirection());
+
+        mockMvc.perform(get(BASE_URL + "/{id}/tasks", toDoId).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    public void etagOfToDoTasksPageFollowsOnlyTheRenderedUsersTest() throws Exception {
+        long toDoId = 8L;
+        ToDo toDo = todoService.readById(toDoId);
+        long otherUserId = userService.getAll().stream()
+                .filter(user -> user.getId() != toDo.getOwner().getId())
+                .findFirst().get().getId();
+        String etag = mockMvc.perform(get(BASE_URL + "/{id}/tasks", toDoId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        jdbcTemplate.update("update users set version = version + 1 where id = ?", toDo.getOwner().getId());
+        mockMvc.perform(get(BASE_URL + "/{id}/tasks", toDoId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        jdbcTemplate.update("update users set version = version + 1 where id = ?", otherUserId);
+        mockMvc.perform(get(BASE_URL + "/{id}/tasks", toDoId).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    public void getAllToDosReturnsNotModifiedForMatchingEtagTest() throws Exception {
+        long userId = 5L;
+        String etag = mockMvc.perform(get(BASE_URL + "/all/users/{user_id}", userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(BASE_URL + "/all/users/{user_id}", userId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void readToDoFromSecondLevelCacheTest() {
+        long toDoId = 9L;
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        todoService.readById(toDoId);
+        statistics.clear();
+
+        ToDo toDo = todoService.readById(toDoId);
+
+        assertEquals(toDoId, toDo.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
     @Test
     public void getUpdateToDoPageTest() throws Exception {
         long toDoId = 7L;
@@ -153,12 +269,18 @@ public class ToDoControllerTest {
     public void getAllToDosTest() throws Exception {
         long ownerId = 4L;
         User expectedUser = userService.readById(ownerId);
-        List<ToDo> expectedToDos = todoService.getByUserId(expectedUser.getId());
-        mockMvc.perform(get(BASE_URL + "/all/users/{user_id}", expectedUser.getId()))
+        List<Long> expectedToDoIds = todoService.getByUserId(expectedUser.getId()).stream()
+                .map(ToDo::getId)
+                .collect(Collectors.toList());
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/all/users/{user_id}", expectedUser.getId()))
                 .andExpect(status().isOk())
                 .andExpect(model().attributeExists("todos", "user"))
-                .andExpect(model().attribute("todos", expectedToDos))
-                .andExpect(model().attribute("user", expectedUser));
+                .andExpect(model().attribute("user", expectedUser))
+                .andReturn();
+
+        @SuppressWarnings("unchecked")
+        List<TodoSummary> todos = (List<TodoSummary>) result.getModelAndView().getModel().get("todos");
+        assertEquals(expectedToDoIds, todos.stream().map(TodoSummary::getId).collect(Collectors.toList()));
     }
 
     @Test
@@ -187,6 +309,37 @@ public class ToDoControllerTest {
         assertFalse(isCollaboratorAdded(toDoId, userId));
     }
 
+    @Test
+    @Transactional
+    public void addCollaboratorRunsSingleStatementTest() throws Exception {
+        long toDoId = 11L;
+        long userId = 6L;
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        todoService.addCollaborator(toDoId, userId);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(isCollaboratorAdded(toDoId, userId));
+    }
+
+    @Test
+    public void collaboratorChangesKeepOtherCachedEntitiesTest() {
+        long toDoId = 11L;
+        long userId = 5L;
+        Cache cache = entityManagerFactory.getCache();
+        todoService.readById(9L);
+        taskService.readById(6L);
+
+        todoService.addCollaborator(toDoId, userId);
+        assertTrue(isCollaboratorAdded(toDoId, userId));
+        todoService.removeCollaborator(toDoId, userId);
+        assertFalse(isCollaboratorAdded(toDoId, userId));
+
+        assertTrue(cache.contains(ToDo.class, 9L));
+        assertTrue(cache.contains(Task.class, 6L));
+    }
+
     private boolean isCollaboratorAdded(long toDoId, long collaboratorId) {
         return todoService.readById(toDoId).getCollaborators().stream()
                 .anyMatch(c -> c.getId() == collaboratorId);
@@ -10,7 +10,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
-import javax.persistence.EntityNotFoundException;
+import jakarta.persistence.EntityNotFoundException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -145,4 +145,16 @@ public class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(model().attributeExists("users"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getAllUsersReturnsNotModifiedForMatchingEtagTest() throws Exception {
+        String etag = mockMvc.perform(get(BASE_URL + "/all"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(BASE_URL + "/all").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
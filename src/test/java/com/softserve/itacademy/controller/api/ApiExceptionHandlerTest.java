@@ -0,0 +1,24 @@
+package com.softserve.itacademy.controller.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApiExceptionHandlerTest {
+    private final ApiExceptionHandler handler = new ApiExceptionHandler();
+
+    @Test
+    void serverErrorsDoNotExposeTheExceptionMessage() {
+        ResponseEntity<Map<String, Object>> response = handler.internalServerErrorHandler(
+                new MockHttpServletRequest("GET", "/api/v1/users"),
+                new IllegalStateException("could not execute statement [users_email_key]"));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertEquals("An unexpected error occurred", response.getBody().get("message"));
+    }
+}
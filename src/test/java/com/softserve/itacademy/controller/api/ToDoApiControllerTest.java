@@ -0,0 +1,158 @@
+package com.softserve.itacademy.controller.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_CLASS;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = BEFORE_CLASS)
+class ToDoApiControllerTest {
+    private static final String BASE_URL = "/api/v1/todos";
+
+    private final MockMvc mockMvc;
+
+    @Autowired
+    ToDoApiControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    void readToDoReturnsDtoWithoutAssociations() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/{todo_id}", 7L))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.ownerId").value(4))
+                .andExpect(jsonPath("$.owner").doesNotExist())
+                .andExpect(jsonPath("$.tasks").doesNotExist());
+    }
+
+    @Test
+    void readMissingToDoReturnsJsonNotFound() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/{todo_id}", 999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.message").value("To-Do with id 999 not found"));
+    }
+
+    @Test
+    void getTasksIsPaged() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/{todo_id}/tasks", 7L).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id").value(5))
+                .andExpect(jsonPath("$.content[0].todoId").value(7))
+                .andExpect(jsonPath("$.nextCursor").value("6"));
+    }
+
+    @Test
+    void getTasksKeepsOnlyRequestedFields() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/{todo_id}/tasks", 7L).param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").exists())
+                .andExpect(jsonPath("$.content[0].name").exists())
+                .andExpect(jsonPath("$.content[0].priority").doesNotExist())
+                .andExpect(jsonPath("$.content[0].stateId").doesNotExist());
+    }
+
+    @Test
+    void createTaskReturnsCreated() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/{todo_id}/tasks", 9L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Api task\",\"priority\":\"LOW\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", startsWith("/api/v1/tasks/")))
+                .andExpect(jsonPath("$.name").value("Api task"))
+                .andExpect(jsonPath("$.todoId").value(9))
+                .andExpect(jsonPath("$.stateId").value(5));
+    }
+
+    @Test
+    void createTaskWithBlankNameIsRejected() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/{todo_id}/tasks", 9L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\" \",\"priority\":\"LOW\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.name").value("The 'name' cannot be empty"));
+    }
+
+    @Test
+    void batchMoveReportsResultPerTask() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/{todo_id}/tasks/batch", 7L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operation\":\"MOVE\",\"ids\":[5,6,999],\"stateId\":7}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$[1].status").value("UPDATED"))
+                .andExpect(jsonPath("$[2].id").value(999))
+                .andExpect(jsonPath("$[2].status").value("NOT_FOUND"));
+
+        mockMvc.perform(get("/api/v1/tasks/{task_id}", 6L))
+                .andExpect(jsonPath("$.stateId").value(7));
+    }
+
+    @Test
+    void batchDeleteLeavesTasksOfOtherToDos() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/{todo_id}/tasks/batch", 8L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operation\":\"DELETE\",\"ids\":[7]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("NOT_FOUND"));
+
+        mockMvc.perform(get("/api/v1/tasks/{task_id}", 7L))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void batchWithoutIdsIsRejected() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/{todo_id}/tasks/batch", 7L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operation\":\"DELETE\",\"ids\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.ids").value("The 'ids' cannot be empty"));
+    }
+
+    @Test
+    void batchMoveWithoutStateIsRejected() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/{todo_id}/tasks/batch", 7L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operation\":\"MOVE\",\"ids\":[5]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.stateIdGiven").value("The 'stateId' cannot be empty when moving tasks"));
+    }
+
+    @Test
+    void batchPrioritizeWithUnknownPriorityIsRejected() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/{todo_id}/tasks/batch", 7L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operation\":\"PRIORITIZE\",\"ids\":[5],\"priority\":\"URGENT\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.priorityGiven").exists());
+    }
+
+    @Test
+    void addCollaboratorToToDo() throws Exception {
+        mockMvc.perform(put(BASE_URL + "/{todo_id}/collaborators/{user_id}", 13L, 5L))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(BASE_URL + "/{todo_id}/collaborators", 13L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", hasItem(5)))
+                .andExpect(jsonPath("$[0].password").doesNotExist());
+    }
+}
@@ -0,0 +1,88 @@
+package com.softserve.itacademy.controller.api;
+
+import com.softserve.itacademy.service.RoleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_CLASS;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = BEFORE_CLASS)
+class UserApiControllerTest {
+    private static final String BASE_URL = "/api/v1/users";
+
+    private final MockMvc mockMvc;
+    private final RoleService roleService;
+
+    @Autowired
+    UserApiControllerTest(MockMvc mockMvc, RoleService roleService) {
+        this.mockMvc = mockMvc;
+        this.roleService = roleService;
+    }
+
+    @Test
+    void getUsersIsPagedAndHidesPasswords() throws Exception {
+        mockMvc.perform(get(BASE_URL).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].email").exists())
+                .andExpect(jsonPath("$.content[0].password").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").exists());
+    }
+
+    @Test
+    void getToDosOfUser() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/{id}/todos", 6L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id").isArray())
+                .andExpect(jsonPath("$.content[0].ownerId").exists())
+                .andExpect(jsonPath("$.content[0].ownerFirstName").doesNotExist());
+    }
+
+    @Test
+    void searchIsScopedToListsOfUser() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/{id}/search", 5L).param("q", "nora"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].type").value("TODO"))
+                .andExpect(jsonPath("$[0].todoId").value(12));
+    }
+
+    @Test
+    void createUserWithoutPasswordIsRejected() throws Exception {
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Anna\",\"lastName\":\"Black\",\"email\":\"anna@mail.com\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("The 'password' cannot be empty"));
+    }
+
+    @Test
+    void createdUserGetsTheUserRole() throws Exception {
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Anna\",\"lastName\":\"Green\",\"email\":\"anna.green@mail.com\"," +
+                                "\"password\":\"Secret12\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.roleId").value(roleService.getByName("USER").getId()));
+    }
+
+    @Test
+    void missingParameterKeepsItsStatus() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/{id}/search", 5L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Required parameter 'q' is not present."));
+    }
+}
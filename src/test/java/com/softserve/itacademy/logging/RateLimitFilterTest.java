@@ -0,0 +1,100 @@
+package com.softserve.itacademy.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateLimitFilterTest {
+    private static final String SQL = "org.hibernate.SQL";
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> summaries = new ListAppender<>();
+    private Logger sql;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        sql = context.getLogger(SQL);
+        sql.setLevel(Level.DEBUG);
+        summaries.setContext(context);
+        summaries.start();
+        context.getLogger(RateLimitFilter.class).addAppender(summaries);
+        filter = new RateLimitFilter(now::get);
+        filter.setLoggerName(SQL);
+        filter.setMaxPerSecond(100);
+    }
+
+    @Test
+    void concurrentEventsInOneSecondPassUpToTheLimit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> passed = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            passed.add(executor.submit(() -> {
+                start.await();
+                int count = 0;
+                for (int j = 0; j < 1_000; j++) {
+                    if (decide() == FilterReply.NEUTRAL) {
+                        count++;
+                    }
+                }
+                return count;
+            }));
+        }
+        start.countDown();
+        int total = 0;
+        for (Future<Integer> future : passed) {
+            total += future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(100, total);
+    }
+
+    @Test
+    void nextSecondReportsTheSuppressedCount() {
+        for (int i = 0; i < 130; i++) {
+            decide();
+        }
+        assertEquals(0, summaries.list.size());
+
+        now.addAndGet(1_000);
+
+        assertEquals(FilterReply.NEUTRAL, decide());
+        assertEquals(1, summaries.list.size());
+        assertEquals(Level.WARN, summaries.list.get(0).getLevel());
+        assertEquals("Suppressed 30 org.hibernate.SQL events over the limit of 100 per second",
+                summaries.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void secondWithinTheLimitReportsNothing() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide());
+        }
+        now.addAndGet(1_000);
+        decide();
+
+        assertEquals(0, summaries.list.size());
+    }
+
+    private FilterReply decide() {
+        return filter.decide(null, sql, Level.DEBUG, "select 1", null, null);
+    }
+}
@@ -0,0 +1,59 @@
+package com.softserve.itacademy.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK, properties = "todolist.dashboard.ttl=0s")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class PrometheusScrapeTest {
+    private final MockMvc mockMvc;
+    private final MeterRegistry registry;
+
+    @Autowired
+    PrometheusScrapeTest(MockMvc mockMvc, MeterRegistry registry) {
+        this.mockMvc = mockMvc;
+        this.registry = registry;
+    }
+
+    @Test
+    void scrapeContainsRequestServiceAndSqlMetrics() throws Exception {
+        mockMvc.perform(get("/todos/{id}/tasks", 7L))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("todolist_service_seconds_count")))
+                .andExpect(content().string(containsString("service=\"ToDoService\"")))
+                .andExpect(content().string(containsString("method=\"readTasksView\"")))
+                .andExpect(content().string(containsString("todolist_request_sql_statements_count")))
+                .andExpect(content().string(containsString("uri=\"/todos/{id}/tasks\"")));
+    }
+
+    // The dashboard runs its six aggregate queries on executor threads; they count against the request.
+    @Test
+    void sqlStatementsOnExecutorThreadsCountAgainstTheRequest() throws Exception {
+        mockMvc.perform(get("/dashboard"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = registry.get("todolist.request.sql.statements")
+                .tag("uri", "/dashboard")
+                .summary();
+        assertTrue(statements.max() >= 6, () -> "statements: " + statements.max());
+    }
+}
@@ -0,0 +1,127 @@
+package com.softserve.itacademy.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the repository methods, records the SQL Hibernate sends and EXPLAINs it on H2; H2 explains a statement
+// without its parameters being bound.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.softserve.itacademy.repository.QueryPlanTest$Recorder")
+@ActiveProfiles("test")
+public class QueryPlanTest {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TaskRepository taskRepository;
+    private final ToDoRepository toDoRepository;
+
+    @Autowired
+    public QueryPlanTest(DataSource dataSource, EntityManagerFactory entityManagerFactory,
+                         TaskRepository taskRepository, ToDoRepository toDoRepository) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.entityManagerFactory = entityManagerFactory;
+        this.taskRepository = taskRepository;
+        this.toDoRepository = toDoRepository;
+    }
+
+    // A cached entity or query result would answer without any SQL to record.
+    @BeforeEach
+    public void evictCaches() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    // H2 only reuses an index for a foreign key when it has exactly the key's columns, so the two composite
+    // indexes get an H2-generated twin on the leading column and the planner may pick either. PostgreSQL creates
+    // no index for a foreign key and only has the composite one.
+    @Test
+    public void tasksByTodoUseIndex() {
+        String plan = explain(() -> taskRepository.getWithStateByTodoId(7L));
+        assertUsesIndex(plan, "IDX_TASKS_TODO_ID", "FK_TASKS_TODO_INDEX");
+    }
+
+    @Test
+    public void nativeTasksByTodoUseIndex() {
+        String plan = explain(() -> taskRepository.getByTodoId(7L));
+        assertUsesIndex(plan, "IDX_TASKS_TODO_ID", "FK_TASKS_TODO_INDEX");
+    }
+
+    @Test
+    public void todoSummariesUseOwnerAndCollaboratorIndexes() {
+        String plan = explain(() -> toDoRepository.getSummariesByUserId(4L, 10));
+        assertUsesIndex(plan, "IDX_TODOS_OWNER_ID", "FK_TODOS_OWNER_INDEX");
+        assertUsesIndex(plan, "IDX_TODO_COLLABORATOR_COLLABORATOR_ID");
+    }
+
+    @Test
+    public void todoSummaryPagesUseOwnerAndCollaboratorIndexes() {
+        String plan = explain(() -> toDoRepository.getSummariesByUserIdAfter(4L, LocalDateTime.now(), 7L, 10));
+        assertUsesIndex(plan, "IDX_TODOS_OWNER_ID", "FK_TODOS_OWNER_INDEX");
+        assertUsesIndex(plan, "IDX_TODO_COLLABORATOR_COLLABORATOR_ID");
+    }
+
+    @Test
+    public void todoIdsByOwnerUseIndex() {
+        String plan = explain(() -> toDoRepository.getIdsByOwnerId(4L));
+        assertUsesIndex(plan, "IDX_TODOS_OWNER_ID", "FK_TODOS_OWNER_INDEX");
+    }
+
+    @Test
+    public void collaboratorsByTodoUsePrimaryKey() {
+        String plan = explain(() -> toDoRepository.getWithOwnerAndCollaboratorsById(7L));
+        assertUsesIndex(plan, "PRIMARY_KEY");
+        assertTrue(plan.matches("(?s).*\"TODO_COLLABORATOR\" \"\\w+\"\\s+/\\* PUBLIC\\.PRIMARY_KEY_\\w*: TODO_ID = .*"),
+                plan);
+    }
+
+    // No repository query filters on these two columns; their indexes serve the foreign key check the database
+    // runs when a state or a role is deleted, which is the lookup below.
+    @Test
+    public void tasksByStateUseIndex() {
+        assertUsesIndex(jdbcTemplate.queryForObject("explain select * from tasks where state_id = 5", String.class),
+                "IDX_TASKS_STATE_ID");
+    }
+
+    @Test
+    public void usersByRoleUseIndex() {
+        assertUsesIndex(jdbcTemplate.queryForObject("explain select * from users where role_id = 2", String.class),
+                "IDX_USERS_ROLE_ID");
+    }
+
+    private String explain(Runnable call) {
+        Recorder.STATEMENTS.clear();
+        call.run();
+        assertEquals(1, Recorder.STATEMENTS.size(), Recorder.STATEMENTS::toString);
+        return jdbcTemplate.queryForObject("explain " + Recorder.STATEMENTS.get(0), String.class);
+    }
+
+    private void assertUsesIndex(String plan, String... indexes) {
+        assertFalse(plan.contains("tableScan"), plan);
+        assertTrue(Arrays.stream(indexes).anyMatch(plan.toUpperCase()::contains), plan);
+    }
+
+    public static class Recorder implements StatementInspector {
+        static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -4,12 +4,15 @@ import com.softserve.itacademy.model.State;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @DataJpaTest
+@ActiveProfiles("test")
 public class StateRepositoryTest {
     private final StateRepository stateRepository;
 
@@ -30,7 +33,7 @@ public class StateRepositoryTest {
 
     @Test
     public void getAllTest() {
-        List<State> expected = stateRepository.findAll();
+        List<State> expected = stateRepository.findAll(Sort.by("id"));
         assertEquals(expected, stateRepository.getAll());
     }
 }
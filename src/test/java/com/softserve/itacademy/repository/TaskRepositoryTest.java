@@ -27,8 +27,8 @@ class TaskRepositoryTest {
 
     @Test
     void getByTodoIdTest() {
-        ToDo todo = toDoRepository.getOne(13L);
-        State state = stateRepository.getOne(7L);
+        ToDo todo = toDoRepository.getReferenceById(13L);
+        State state = stateRepository.getReferenceById(7L);
         Task task = new Task();
         task.setName("TestTask");
         task.setPriority(Priority.LOW);
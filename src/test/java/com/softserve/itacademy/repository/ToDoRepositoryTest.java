@@ -1,16 +1,21 @@
 package com.softserve.itacademy.repository;
 
+import com.softserve.itacademy.dto.TodoSummary;
 import com.softserve.itacademy.model.ToDo;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @DataJpaTest
+@ActiveProfiles("test")
 public class ToDoRepositoryTest {
     private final ToDoRepository toDoRepository;
 
@@ -28,4 +33,39 @@ public class ToDoRepositoryTest {
                 .collect(Collectors.toList());
         assertEquals(expected, toDoRepository.getByUserId(userId));
     }
+
+    @Test
+    public void getSummariesByUserIdTest() {
+        long userId = 4L;
+        List<Long> expected = toDoRepository.getByUserId(userId).stream()
+                .sorted(Comparator.comparing(ToDo::getCreatedAt).thenComparing(ToDo::getId))
+                .map(ToDo::getId)
+                .collect(Collectors.toList());
+        List<TodoSummary> summaries = toDoRepository.getSummariesByUserId(userId, 100);
+        assertEquals(expected, summaries.stream().map(TodoSummary::getId).collect(Collectors.toList()));
+        assertEquals("Mike", summaries.get(0).getOwnerFirstName());
+        assertEquals(4L, summaries.get(0).getOwnerId());
+    }
+
+    @Test
+    public void getSummariesByUserIdAfterTest() {
+        long userId = 4L;
+        List<TodoSummary> all = toDoRepository.getSummariesByUserId(userId, 100);
+        TodoSummary cursor = all.get(1);
+        List<Long> expected = all.subList(2, 4).stream().map(TodoSummary::getId).collect(Collectors.toList());
+        assertEquals(expected, toDoRepository.getSummariesByUserIdAfter(userId, cursor.getCreatedAt(), cursor.getId(),
+                2).stream().map(TodoSummary::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void getSummariesByUserIdBeforeTest() {
+        long userId = 4L;
+        List<TodoSummary> all = toDoRepository.getSummariesByUserId(userId, 100);
+        TodoSummary cursor = all.get(all.size() - 1);
+        List<Long> expected = all.subList(all.size() - 3, all.size() - 1).stream().map(TodoSummary::getId)
+                .collect(Collectors.toList());
+        Collections.reverse(expected);
+        assertEquals(expected, toDoRepository.getSummariesByUserIdBefore(userId, cursor.getCreatedAt(), cursor.getId(),
+                2).stream().map(TodoSummary::getId).collect(Collectors.toList()));
+    }
 }
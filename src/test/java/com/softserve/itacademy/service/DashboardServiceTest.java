@@ -0,0 +1,75 @@
+package com.softserve.itacademy.service;
+
+import com.softserve.itacademy.dto.Dashboard;
+import com.softserve.itacademy.dto.NamedCount;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_CLASS;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = BEFORE_CLASS)
+class DashboardServiceTest {
+    private final DashboardService dashboardService;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    DashboardServiceTest(DashboardService dashboardService, JdbcTemplate jdbcTemplate,
+                         EntityManagerFactory entityManagerFactory) {
+        this.dashboardService = dashboardService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Test
+    void aggregatesMatchTheTables() {
+        Dashboard dashboard = dashboardService.getDashboard();
+
+        assertEquals(count("select count(*) from users"), dashboard.getUsers());
+        assertEquals(count("select count(*) from users where role_id is not null"),
+                dashboard.getUsersByRole().stream().mapToLong(NamedCount::getCount).sum());
+        assertEquals(count("select count(*) from todos"), dashboard.getTodos());
+        assertEquals(count("select count(*) from tasks"), dashboard.getTasks().getTotal());
+
+        List<Map<String, Object>> owner = jdbcTemplate.queryForList("select owner_id, count(*) c from todos " +
+                "group by owner_id order by c desc, owner_id limit 1");
+        assertEquals(((Number) owner.get(0).get("owner_id")).longValue(), dashboard.getTopOwners().get(0).getId());
+        assertEquals(((Number) owner.get(0).get("c")).longValue(), dashboard.getTopOwners().get(0).getCount());
+
+        long mostCollaborators = count("select coalesce(max(c), 0) from (select count(*) c from todo_collaborator " +
+                "group by todo_id) s");
+        assertTrue(dashboard.getMostShared().isEmpty() && mostCollaborators == 0
+                || dashboard.getMostShared().get(0).getCount() == mostCollaborators);
+    }
+
+    @Test
+    void repeatedCallsWithinTheTtlDoNotQuery() {
+        Dashboard first = dashboardService.getDashboard();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Dashboard second = dashboardService.getDashboard();
+
+        assertSame(first, second);
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.softserve.itacademy.service;
+
+import com.softserve.itacademy.dto.SearchHit;
+import com.softserve.itacademy.model.ToDo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_CLASS;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = BEFORE_CLASS)
+class SearchServiceTest {
+    private static final int LIMIT = 50;
+
+    private final SearchService searchService;
+    private final ToDoService todoService;
+    private final UserService userService;
+
+    @Autowired
+    SearchServiceTest(SearchService searchService, ToDoService todoService, UserService userService) {
+        this.searchService = searchService;
+        this.todoService = todoService;
+        this.userService = userService;
+    }
+
+    @Test
+    void findsOnlyListsTheUserOwnsOrCollaboratesOn() {
+        List<SearchHit> hits = searchService.search(5, "nora", LIMIT);
+
+        assertEquals(1, hits.size());
+        assertEquals(SearchHit.Type.TODO, hits.get(0).getType());
+        assertEquals(12L, hits.get(0).getId());
+    }
+
+    @Test
+    void matchesEveryWordByPrefix() {
+        List<SearchHit> tasks = searchService.search(6, "tas", LIMIT);
+        List<SearchHit> secondTask = searchService.search(4, "task 2", LIMIT);
+
+        assertEquals(3, tasks.size());
+        for (SearchHit hit : tasks) {
+            assertEquals(SearchHit.Type.TASK, hit.getType());
+            assertEquals(7L, hit.getTodoId());
+        }
+        assertEquals(1, secondTask.size());
+        assertEquals(6L, secondTask.get(0).getId());
+    }
+
+    @Test
+    void blankQueryFindsNothing() {
+        assertTrue(searchService.search(4, "  ", LIMIT).isEmpty());
+    }
+
+    @Test
+    void indexFollowsCreateUpdateAndDelete() {
+        ToDo todo = new ToDo();
+        todo.setTitle("Quarterly report");
+        todo.setCreatedAt(LocalDateTime.now());
+        todo.setOwner(userService.readById(4));
+        todo = todoService.create(todo);
+
+        assertEquals(ids(todo.getId()), ids(searchService.search(4, "quarter", LIMIT)));
+        assertTrue(searchService.search(5, "quarter", LIMIT).isEmpty());
+
+        todo.setTitle("Annual report");
+        todoService.update(todo);
+
+        assertTrue(searchService.search(4, "quarter", LIMIT).isEmpty());
+        assertEquals(ids(todo.getId()), ids(searchService.search(4, "annual", LIMIT)));
+
+        todoService.delete(todo.getId());
+
+        assertTrue(searchService.search(4, "annual", LIMIT).isEmpty());
+    }
+
+    private static List<Long> ids(long... ids) {
+        List<Long> list = new ArrayList<>();
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        List<Long> list = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            list.add(hit.getId());
+        }
+        return list;
+    }
+}
@@ -0,0 +1,141 @@
+package com.softserve.itacademy.service;
+
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_CLASS;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = BEFORE_CLASS)
+class TaskServiceConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int EDITS_PER_THREAD = 25;
+
+    private final TaskService taskService;
+    private final StateService stateService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TaskServiceConcurrencyTest(TaskService taskService, StateService stateService, JdbcTemplate jdbcTemplate) {
+        this.taskService = taskService;
+        this.stateService = stateService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Test
+    void concurrentEditsNeverLoseAnUpdate() throws Exception {
+        long taskId = 5L;
+        long initialVersion = versionOf(taskId);
+        AtomicInteger saved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < EDITS_PER_THREAD; i++) {
+                Task task = copy(taskService.readById(taskId));
+                task.setName("Task #1 edited by " + thread + "." + i);
+                try {
+                    taskService.update(task);
+                    saved.incrementAndGet();
+                } catch (ObjectOptimisticLockingFailureException e) {
+                    rejected.incrementAndGet();
+                }
+            }
+            return null;
+        });
+
+        assertEquals(THREADS * EDITS_PER_THREAD, saved.get() + rejected.get());
+        assertTrue(saved.get() > 0);
+        assertEquals(initialVersion + saved.get(), versionOf(taskId));
+    }
+
+    @Test
+    void concurrentEditsOfDifferentFieldsAreMerged() throws Exception {
+        long taskId = 6L;
+        Task original = copy(taskService.readById(taskId));
+        Task priorityEdit = copy(original);
+        priorityEdit.setPriority(Priority.HIGH);
+        Task stateEdit = copy(original);
+        stateEdit.setState(stateService.getByName("Done"));
+
+        runConcurrently(2, thread -> taskService.update(original, thread == 0 ? priorityEdit : stateEdit));
+
+        Task merged = taskService.readById(taskId);
+        assertEquals(Priority.HIGH, merged.getPriority());
+        assertEquals("Done", merged.getState().getName());
+        assertEquals(original.getVersion() + 2, versionOf(taskId));
+    }
+
+    @Test
+    void editsOfTheSameFieldConflict() {
+        long taskId = 7L;
+        Task original = copy(taskService.readById(taskId));
+        Task first = copy(original);
+        first.setName("First rename");
+        Task second = copy(original);
+        second.setName("Second rename");
+
+        taskService.update(original, first);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> taskService.update(original, second));
+        assertEquals("First rename", taskService.readById(taskId).getName());
+    }
+
+    private long versionOf(long taskId) {
+        return jdbcTemplate.queryForObject("select version from tasks where id = ?", Long.class, taskId);
+    }
+
+    private static Task copy(Task source) {
+        Task task = new Task();
+        task.setId(source.getId());
+        task.setName(source.getName());
+        task.setPriority(source.getPriority());
+        task.setTodo(source.getTodo());
+        task.setState(source.getState());
+        task.setVersion(source.getVersion());
+        return task;
+    }
+
+    private interface Worker {
+        Object run(int thread) throws Exception;
+    }
+
+    private static void runConcurrently(int threads, Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int thread = i;
+            Callable<Object> call = () -> {
+                start.await();
+                return worker.run(thread);
+            };
+            results.add(executor.submit(call));
+        }
+        start.countDown();
+        for (Future<Object> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,164 @@
+package com.softserve.itacademy.service;
+
+import com.softserve.itacademy.dto.TodoStats;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_CLASS;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = BEFORE_CLASS)
+class TodoStatsTest {
+    private final TodoStatsService todoStatsService;
+    private final TaskService taskService;
+    private final ToDoService todoService;
+    private final StateService stateService;
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+
+    @Autowired
+    TodoStatsTest(TodoStatsService todoStatsService, TaskService taskService, ToDoService todoService,
+                  StateService stateService, UserService userService, JdbcTemplate jdbcTemplate,
+                  PlatformTransactionManager transactionManager) {
+        this.todoStatsService = todoStatsService;
+        this.taskService = taskService;
+        this.todoService = todoService;
+        this.stateService = stateService;
+        this.userService = userService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void seededTasksAreCounted() {
+        TodoStats stats = statsOf(7L);
+
+        assertEquals(3, stats.getTotal());
+        assertEquals(1, stats.getDone());
+        assertEquals(33, stats.getPercentDone());
+        assertEquals(0L, stats.getByState().get("Verify"));
+        assertEquals(1L, stats.getByPriority().get(Priority.HIGH));
+    }
+
+    @Test
+    void countsFollowTaskChanges() {
+        Task task = new Task();
+        task.setName("Counted task");
+        task.setPriority(Priority.LOW);
+        task.setTodo(todoService.readById(9L));
+        task.setState(stateService.getByName("New"));
+        task = taskService.create(task);
+
+        assertEquals(1L, statsOf(9L).getByState().get("New"));
+
+        task.setState(stateService.getByName("Done"));
+        taskService.update(task);
+        taskService.updatePriority(9L, Collections.singletonList(task.getId()), Priority.HIGH);
+
+        TodoStats stats = statsOf(9L);
+        assertEquals(1, stats.getTotal());
+        assertEquals(0L, stats.getByState().get("New"));
+        assertEquals(100, stats.getPercentDone());
+        assertEquals(0L, stats.getByPriority().get(Priority.LOW));
+        assertEquals(1L, stats.getByPriority().get(Priority.HIGH));
+
+        taskService.delete(task.getId());
+
+        assertEquals(0, statsOf(9L).getTotal());
+    }
+
+    @Test
+    void newToDoStartsWithEmptyCounters() {
+        ToDo todo = new ToDo();
+        todo.setTitle("Counted To-Do");
+        todo.setCreatedAt(LocalDateTime.now());
+        todo.setOwner(userService.readById(5L));
+        todo = todoService.create(todo);
+
+        TodoStats stats = statsOf(todo.getId());
+
+        assertEquals(0, stats.getTotal());
+        assertEquals(4, stats.getByState().size());
+    }
+
+    @Test
+    void reconcileRepairsCountersChangedOutsideTheServices() {
+        jdbcTemplate.update("insert into tasks (id, name, priority, todo_id, state_id) " +
+                "values (1000000, 'Loaded task', 'MEDIUM', 10, 6)");
+        jdbcTemplate.update("update todo_stats set task_count = 5 where todo_id = 11");
+        try {
+            assertTrue(todoStatsService.reconcile() > 0);
+
+            assertEquals(1L, statsOf(10L).getByState().get("Doing"));
+            assertEquals(0, statsOf(11L).getTotal());
+            assertEquals(0, todoStatsService.reconcile());
+        } finally {
+            jdbcTemplate.update("delete from tasks where id = 1000000");
+            todoStatsService.reconcile();
+        }
+    }
+
+    // The writer has added a task and its counter but not committed when the reconcile starts. The reconcile
+    // waits for the counter lock and recounts with the task included instead of overwriting the writer's change.
+    @Test
+    void reconcileWaitsForAWriterHoldingTheCounters() throws Exception {
+        jdbcTemplate.update("update todo_stats set task_count = 5 where todo_id = 12 and priority = 'LOW'");
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                jdbcTemplate.update("insert into tasks (id, name, priority, todo_id, state_id) " +
+                        "values (1000001, 'Concurrent task', 'HIGH', 12, 5)");
+                jdbcTemplate.update("update todo_stats set task_count = task_count + 1 " +
+                        "where todo_id = 12 and state_id = 5 and priority = 'HIGH'");
+                written.countDown();
+                try {
+                    commit.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            written.await();
+            Future<Integer> reconcile = executor.submit(todoStatsService::reconcile);
+            Thread.sleep(200);
+            commit.countDown();
+            writer.get(10, TimeUnit.SECONDS);
+            reconcile.get(10, TimeUnit.SECONDS);
+
+            TodoStats stats = statsOf(12L);
+            assertEquals(1, stats.getTotal());
+            assertEquals(1L, stats.getByPriority().get(Priority.HIGH));
+        } finally {
+            commit.countDown();
+            executor.shutdown();
+            jdbcTemplate.update("delete from tasks where id = 1000001");
+            todoStatsService.reconcile();
+        }
+    }
+
+    private TodoStats statsOf(long todoId) {
+        return todoStatsService.getByTodoIds(Collections.singletonList(todoId)).get(todoId);
+    }
+}
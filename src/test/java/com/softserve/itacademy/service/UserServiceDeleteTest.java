@@ -0,0 +1,94 @@
+package com.softserve.itacademy.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_CLASS;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = BEFORE_CLASS)
+class UserServiceDeleteTest {
+    private static final long USER_ID = 1_000_000L;
+    private static final long FIRST_ID = 1_000_000L;
+    private static final int TODOS = 100;
+    private static final int TASKS = 100_000;
+    private static final int BATCH = 10_000;
+
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final Statistics statistics;
+
+    @Autowired
+    UserServiceDeleteTest(UserService userService, JdbcTemplate jdbcTemplate,
+                          EntityManagerFactory entityManagerFactory) {
+        this.userService = userService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void deletingUserWithManyTasksDoesNotLoadThem() {
+        seedUserWithTasks();
+        jdbcTemplate.update("insert into todo_collaborator (todo_id, collaborator_id) values (?, ?)", 7L, USER_ID);
+        jdbcTemplate.update("insert into todo_collaborator (todo_id, collaborator_id) values (?, ?)", FIRST_ID, 4L);
+        statistics.clear();
+
+        userService.delete(USER_ID);
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        // the todo and user deletes each clear their rows of todo_collaborator first, one statement apiece
+        assertTrue(statistics.getPrepareStatementCount() <= 6);
+        assertEquals(0, count("select count(*) from tasks where todo_id >= ?", FIRST_ID));
+        assertEquals(0, count("select count(*) from todos where owner_id = ?", USER_ID));
+        assertEquals(0, count("select count(*) from todo_collaborator where collaborator_id = ? or todo_id >= ?",
+                USER_ID, FIRST_ID));
+        assertEquals(0, count("select count(*) from users where id = ?", USER_ID));
+        assertEquals(3, count("select count(*) from tasks where todo_id = ?", 7L));
+    }
+
+    @Test
+    void deletingMissingUserThrows() {
+        assertThrows(EntityNotFoundException.class, () -> userService.delete(999L));
+    }
+
+    private void seedUserWithTasks() {
+        jdbcTemplate.update("insert into users (id, first_name, last_name, email, password, role_id) " +
+                "values (?, 'Heavy', 'User', 'heavy@mail.com', 'password', 2)", USER_ID);
+        List<Object[]> todos = new ArrayList<>();
+        for (int i = 0; i < TODOS; i++) {
+            todos.add(new Object[]{FIRST_ID + i, "Heavy To-Do #" + i, Timestamp.valueOf(LocalDateTime.now()), USER_ID});
+        }
+        jdbcTemplate.batchUpdate("insert into todos (id, title, created_at, owner_id) values (?, ?, ?, ?)", todos);
+        List<Object[]> tasks = new ArrayList<>(BATCH);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Object[]{FIRST_ID + i, "Heavy task #" + i, "LOW", FIRST_ID + i % TODOS, 5L});
+            if (tasks.size() == BATCH) {
+                jdbcTemplate.batchUpdate("insert into tasks (id, name, priority, todo_id, state_id) " +
+                        "values (?, ?, ?, ?, ?)", tasks);
+                tasks.clear();
+            }
+        }
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}